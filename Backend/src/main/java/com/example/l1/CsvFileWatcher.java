@@ -0,0 +1,104 @@
+package com.example.l1;
+
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Runs a callback when a watched file is created or modified. Bursts of events for the
+ * same file (editors and scrapers usually write in several steps) are debounced.
+ */
+@Component
+public class CsvFileWatcher {
+    private static final long DEBOUNCE_MS = 500;
+
+    private final Map<Path, Runnable> callbacks = new ConcurrentHashMap<>();
+    private final Map<Path, ScheduledFuture<?>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(daemon("csv-reload"));
+    private WatchService watchService;
+    private Thread watchThread;
+
+    public synchronized void watch(Path file, Runnable onChange) {
+        Path absolute = file.toAbsolutePath().normalize();
+        Path dir = absolute.getParent();
+        if (dir == null || !Files.isDirectory(dir)) {
+            System.err.println("Cannot watch " + absolute + ": directory does not exist");
+            return;
+        }
+        try {
+            if (watchService == null) {
+                watchService = FileSystems.getDefault().newWatchService();
+                watchThread = daemon("csv-watch").newThread(this::poll);
+                watchThread.start();
+            }
+            dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            callbacks.put(absolute, onChange);
+        } catch (IOException e) {
+            System.err.println("Cannot watch " + absolute + ": " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        scheduler.shutdownNow();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                System.err.println("Error closing file watcher: " + e.getMessage());
+            }
+        }
+    }
+
+    private void poll() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            Path dir = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    continue;
+                }
+                Path changed = dir.resolve((Path) event.context()).toAbsolutePath().normalize();
+                Runnable callback = callbacks.get(changed);
+                if (callback != null) {
+                    schedule(changed, callback);
+                }
+            }
+            if (!key.reset()) {
+                return;
+            }
+        }
+    }
+
+    private void schedule(Path file, Runnable callback) {
+        ScheduledFuture<?> previous = pending.put(file, scheduler.schedule(() -> {
+            pending.remove(file);
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                System.err.println("Error reloading " + file + ": " + e.getMessage());
+                e.printStackTrace();
+            }
+        }, DEBOUNCE_MS, TimeUnit.MILLISECONDS));
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return r -> {
+            Thread t = new Thread(r, name);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
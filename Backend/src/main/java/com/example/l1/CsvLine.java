@@ -0,0 +1,50 @@
+package com.example.l1;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Field splitting for one CSV line, quoted the way MatchCsvParser reads them: a double quote toggles
+ * quoting, commas inside quotes belong to the field and the quotes themselves are dropped.
+ */
+public final class CsvLine {
+
+    private CsvLine() {
+    }
+
+    public static String[] split(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                inQuotes = !inQuotes;
+            } else if (c == ',' && !inQuotes) {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values.toArray(new String[0]);
+    }
+
+    /** The first field of {@code line}, without splitting the rest of it. */
+    public static String firstField(String line) {
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                inQuotes = !inQuotes;
+            } else if (c == ',' && !inQuotes) {
+                break;
+            } else {
+                current.append(c);
+            }
+        }
+        return current.toString();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.l1;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic versions for what the read endpoints serve, one per {@link Scope}: player writes, reloads and
+ * scoring-rule changes move {@link Scope#PLAYERS}; match reloads move {@link Scope#MATCHES}. Controllers
+ * turn them into strong ETags so a client holding the current one gets a 304 without the request reaching
+ * a service. Writers bump only after publishing their new state, so a tag is never newer than the body it
+ * is sent with.
+ */
+@Component
+public class DataVersion {
+    public enum Scope {
+        MATCHES("m"),
+        PLAYERS("p");
+
+        private final String tag;
+
+        Scope(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    // Distinguishes restarts, which begin counting from zero again.
+    private final String boot = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong matches = new AtomicLong();
+    private final AtomicLong players = new AtomicLong();
+
+    public long get(Scope scope) {
+        return counter(scope).get();
+    }
+
+    public long bump(Scope scope) {
+        if (scope == Scope.MATCHES) {
+            // Match loads register the team names player pages are keyed on, so those move with them.
+            players.incrementAndGet();
+        }
+        return counter(scope).incrementAndGet();
+    }
+
+    /** Quoted strong entity tag for the current version of {@code scope}. */
+    public String etag(Scope scope) {
+        return etag(scope, get(scope), null);
+    }
+
+    /** Tag for {@code version}; a non-null {@code variant} (e.g. a content coding) gets its own tag. */
+    public String etag(Scope scope, long version, String variant) {
+        return "\"" + boot + "-" + scope.tag + version + (variant == null ? "" : "-" + variant) + "\"";
+    }
+
+    private AtomicLong counter(Scope scope) {
+        return scope == Scope.MATCHES ? matches : players;
+    }
+}
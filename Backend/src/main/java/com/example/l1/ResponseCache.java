@@ -0,0 +1,125 @@
+package com.example.l1;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Final (usually JSON) bodies of hot read endpoints, stored with a gzip copy made once on the first miss, keyed
+ * by the {@link DataVersion} scope and version plus endpoint and parameters. A hit is an ETag comparison or
+ * a byte copy: no serialisation and no compression. Entries from older versions of a scope are dropped on
+ * its first miss after a bump, as SquadOptimizer does with its results; other scopes keep theirs.
+ */
+@Component
+public class ResponseCache {
+    private static final int MAX_ENTRIES = 4096;
+    private static final String GZIP = "gzip";
+
+    private final DataVersion dataVersion;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public ResponseCache(DataVersion dataVersion) {
+        this.dataVersion = dataVersion;
+    }
+
+    /**
+     * The cached response for {@code key}, rendering it on a miss; null once {@code request} has been
+     * answered with 304. A null body from {@code render} becomes a 404 and is not cached.
+     */
+    public ResponseEntity<byte[]> respond(WebRequest request, DataVersion.Scope scope, String key, Renderer render)
+            throws IOException {
+        return respond(request, scope, key, MediaType.APPLICATION_JSON, render);
+    }
+
+    /** {@link #respond(WebRequest, DataVersion.Scope, String, Renderer)} for a body that is not JSON. */
+    public ResponseEntity<byte[]> respond(WebRequest request, DataVersion.Scope scope, String key, MediaType mediaType,
+                                          Renderer render) throws IOException {
+        // Read before rendering, so the tag is never newer than the body.
+        long version = dataVersion.get(scope);
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (request.checkNotModified(dataVersion.etag(scope, version, gzip ? GZIP : null))) {
+            return null;
+        }
+        String scopePrefix = scope + ":";
+        String prefix = scopePrefix + version + ":";
+        Entry entry = entries.get(prefix + key);
+        if (entry == null) {
+            byte[] json = render.render();
+            if (json == null) {
+                return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            }
+            entry = new Entry(json, compress(json));
+            entries.keySet().removeIf(k -> k.startsWith(scopePrefix) && !k.startsWith(prefix));
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+            Entry raced = entries.putIfAbsent(prefix + key, entry);
+            if (raced != null) {
+                entry = raced;
+            }
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP).body(entry.gzip);
+        }
+        return response.body(entry.json);
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (!parts[0].trim().equalsIgnoreCase(GZIP)) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static byte[] compress(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        }
+        return out.toByteArray();
+    }
+
+    /** Produces the JSON body on a miss, or null when there is nothing to serve. */
+    public interface Renderer {
+        byte[] render() throws IOException;
+    }
+
+    private static final class Entry {
+        final byte[] json;
+        final byte[] gzip;
+
+        Entry(byte[] json, byte[] gzip) {
+            this.json = json;
+            this.gzip = gzip;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.l1;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class TextNormalizer {
+    private static final Pattern MARKS = Pattern.compile("\\p{M}");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]+");
+
+    private TextNormalizer() {
+    }
+
+    public static String normalize(String s) {
+        if (s == null) {
+            return "";
+        }
+        return NON_ALPHANUMERIC.matcher(fold(s)).replaceAll("");
+    }
+
+    public static List<String> words(String s) {
+        List<String> out = new ArrayList<>();
+        if (s == null) {
+            return out;
+        }
+        for (String word : NON_ALPHANUMERIC.split(fold(s))) {
+            if (!word.isEmpty()) {
+                out.add(word);
+            }
+        }
+        return out;
+    }
+
+    private static String fold(String s) {
+        String noAccents = MARKS.matcher(Normalizer.normalize(s, Normalizer.Form.NFD)).replaceAll("");
+        return noAccents
+                .toLowerCase(Locale.ROOT)
+                .replace("&", "and");
+    }
+}
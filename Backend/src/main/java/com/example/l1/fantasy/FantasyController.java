@@ -0,0 +1,305 @@
+package com.example.l1.fantasy;
+
+import com.example.l1.DataVersion;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping(path = "api/v1/fantasy")
+public class FantasyController {
+    private final SquadOptimizer squadOptimizer;
+    private final FantasyScoringEngine scoringEngine;
+    private final DataVersion dataVersion;
+
+    @Autowired
+    public FantasyController(SquadOptimizer squadOptimizer, FantasyScoringEngine scoringEngine, DataVersion dataVersion) {
+        this.squadOptimizer = squadOptimizer;
+        this.scoringEngine = scoringEngine;
+        this.dataVersion = dataVersion;
+    }
+
+    @GetMapping("/squad")
+    public ResponseEntity<SquadResponse> squad(
+            @RequestParam(defaultValue = "100") double budget,
+            @RequestParam(defaultValue = "3") int maxPerTeam) {
+        if (!(budget > 0) || Double.isInfinite(budget)
+                || maxPerTeam <= 0 || maxPerTeam > SquadOptimizer.MAX_PER_TEAM) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        SquadResponse squad = squadOptimizer.optimize(budget, maxPerTeam);
+        if (squad == null) {
+            return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+        return new ResponseEntity<>(squad, HttpStatus.OK);
+    }
+    @GetMapping("/rules")
+    public ScoringRules getRules() {
+        return scoringEngine.getRules();
+    }
+    @PutMapping("/rules")
+    public ResponseEntity<ScoringRules> updateRules(@RequestBody ScoringRules rules) {
+        if (!isValid(rules)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        scoringEngine.setRules(rules);
+        // Player lists can be sorted by fantasy points.
+        dataVersion.bump(DataVersion.Scope.PLAYERS);
+        return new ResponseEntity<>(scoringEngine.getRules(), HttpStatus.OK);
+    }
+
+    private static boolean isValid(ScoringRules rules) {
+        if (rules.getGoals() == null) {
+            return false;
+        }
+        for (Double weight : rules.getGoals().values()) {
+            if (weight == null || !Double.isFinite(weight)) {
+                return false;
+            }
+        }
+        double[] weights = {rules.getAssist(), rules.getPenalty(), rules.getStart(), rules.getAppearance(),
+                rules.getPer90(), rules.getYellowCard(), rules.getRedCard()};
+        for (double weight : weights) {
+            if (!Double.isFinite(weight)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static class SquadResponse {
+        private String formation;
+        private double budget;
+        private double cost;
+        private double points;
+        private double squadPoints;
+        private List<SquadPlayer> starting;
+        private List<SquadPlayer> bench;
+
+        public SquadResponse() {
+        }
+
+        public SquadResponse(String formation, double budget, double cost, double points, double squadPoints, List<SquadPlayer> starting, List<SquadPlayer> bench) {
+            this.formation = formation;
+            this.budget = budget;
+            this.cost = cost;
+            this.points = points;
+            this.squadPoints = squadPoints;
+            this.starting = starting;
+            this.bench = bench;
+        }
+
+        public String getFormation() {
+            return formation;
+        }
+
+        public void setFormation(String formation) {
+            this.formation = formation;
+        }
+
+        public double getBudget() {
+            return budget;
+        }
+
+        public void setBudget(double budget) {
+            this.budget = budget;
+        }
+
+        public double getCost() {
+            return cost;
+        }
+
+        public void setCost(double cost) {
+            this.cost = cost;
+        }
+
+        public double getPoints() {
+            return points;
+        }
+
+        public void setPoints(double points) {
+            this.points = points;
+        }
+
+        public double getSquadPoints() {
+            return squadPoints;
+        }
+
+        public void setSquadPoints(double squadPoints) {
+            this.squadPoints = squadPoints;
+        }
+
+        public List<SquadPlayer> getStarting() {
+            return starting;
+        }
+
+        public void setStarting(List<SquadPlayer> starting) {
+            this.starting = starting;
+        }
+
+        public List<SquadPlayer> getBench() {
+            return bench;
+        }
+
+        public void setBench(List<SquadPlayer> bench) {
+            this.bench = bench;
+        }
+    }
+
+    public static class SquadPlayer {
+        private String name;
+        private String team;
+        private String pos;
+        private double price;
+        private double points;
+
+        public SquadPlayer() {
+        }
+
+        public SquadPlayer(String name, String team, String pos, double price, double points) {
+            this.name = name;
+            this.team = team;
+            this.pos = pos;
+            this.price = price;
+            this.points = points;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getTeam() {
+            return team;
+        }
+
+        public void setTeam(String team) {
+            this.team = team;
+        }
+
+        public String getPos() {
+            return pos;
+        }
+
+        public void setPos(String pos) {
+            this.pos = pos;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+
+        public double getPoints() {
+            return points;
+        }
+
+        public void setPoints(double points) {
+            this.points = points;
+        }
+    }
+
+    public static class ScoringRules {
+        private Map<String, Double> goals;
+        private double assist;
+        private double penalty;
+        private double start;
+        private double appearance;
+        private double per90;
+        private double yellowCard;
+        private double redCard;
+
+        public ScoringRules() {
+        }
+
+        public ScoringRules(Map<String, Double> goals, double assist, double penalty, double start, double appearance, double per90, double yellowCard, double redCard) {
+            this.goals = goals;
+            this.assist = assist;
+            this.penalty = penalty;
+            this.start = start;
+            this.appearance = appearance;
+            this.per90 = per90;
+            this.yellowCard = yellowCard;
+            this.redCard = redCard;
+        }
+
+        public Map<String, Double> getGoals() {
+            return goals;
+        }
+
+        public void setGoals(Map<String, Double> goals) {
+            this.goals = goals;
+        }
+
+        public double getAssist() {
+            return assist;
+        }
+
+        public void setAssist(double assist) {
+            this.assist = assist;
+        }
+
+        public double getPenalty() {
+            return penalty;
+        }
+
+        public void setPenalty(double penalty) {
+            this.penalty = penalty;
+        }
+
+        public double getStart() {
+            return start;
+        }
+
+        public void setStart(double start) {
+            this.start = start;
+        }
+
+        public double getAppearance() {
+            return appearance;
+        }
+
+        public void setAppearance(double appearance) {
+            this.appearance = appearance;
+        }
+
+        public double getPer90() {
+            return per90;
+        }
+
+        public void setPer90(double per90) {
+            this.per90 = per90;
+        }
+
+        public double getYellowCard() {
+            return yellowCard;
+        }
+
+        public void setYellowCard(double yellowCard) {
+            this.yellowCard = yellowCard;
+        }
+
+        public double getRedCard() {
+            return redCard;
+        }
+
+        public void setRedCard(double redCard) {
+            this.redCard = redCard;
+        }
+    }
+}
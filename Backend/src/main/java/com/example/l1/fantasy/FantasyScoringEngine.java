@@ -0,0 +1,282 @@
+package com.example.l1.fantasy;
+
+import com.example.l1.player.Player;
+import com.example.l1.player.PlayerChangeListener;
+import com.example.l1.player.PlayerScores;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Fantasy points for the whole player table, kept as primitive columns (one slot per player) so a
+ * full rescore is a single pass over arrays. A player change rescores its own slot; a rule change
+ * rescores every slot when a shared weight moves, or only the affected positions when just goal
+ * weights do.
+ */
+@Component
+public class FantasyScoringEngine implements PlayerChangeListener, PlayerScores {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong version = new AtomicLong();
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final List<String> positions = new ArrayList<>();
+    private final Map<String, Integer> positionCodes = new HashMap<>();
+
+    private FantasyController.ScoringRules rules = defaultRules();
+    private double[] goalWeights = new double[0];
+    private int size;
+    private int[] position = new int[INITIAL_CAPACITY];
+    private double[] goals = new double[INITIAL_CAPACITY];
+    private double[] assists = new double[INITIAL_CAPACITY];
+    private double[] penalties = new double[INITIAL_CAPACITY];
+    private double[] starts = new double[INITIAL_CAPACITY];
+    private double[] subs = new double[INITIAL_CAPACITY];
+    private double[] minutes = new double[INITIAL_CAPACITY];
+    private double[] yellows = new double[INITIAL_CAPACITY];
+    private double[] reds = new double[INITIAL_CAPACITY];
+    private double[] points = new double[INITIAL_CAPACITY];
+
+    public static FantasyController.ScoringRules defaultRules() {
+        Map<String, Double> goals = new LinkedHashMap<>();
+        goals.put("GK", 6.0);
+        goals.put("DF", 6.0);
+        goals.put("MF", 5.0);
+        goals.put("FW", 4.0);
+        return new FantasyController.ScoringRules(goals, 3.0, 0.0, 2.0, 1.0, 0.0, -1.0, -3.0);
+    }
+
+    public static String primaryPosition(Player player) {
+        String pos = player.getPos();
+        if (pos == null) {
+            return "";
+        }
+        int comma = pos.indexOf(',');
+        return (comma < 0 ? pos : pos.substring(0, comma)).trim().toUpperCase(Locale.ROOT);
+    }
+
+    @Override
+    public void playersLoaded(Collection<Player> players) {
+        lock.writeLock().lock();
+        try {
+            slots.clear();
+            freeSlots.clear();
+            size = 0;
+            ensureCapacity(players.size());
+            for (Player player : players) {
+                Integer slot = slots.get(player.getName());
+                if (slot == null) {
+                    slot = size++;
+                    slots.put(player.getName(), slot);
+                }
+                store(slot, player);
+            }
+            rescore(null);
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void playerSaved(Player player) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.get(player.getName());
+            if (slot == null) {
+                slot = freeSlots.isEmpty() ? size++ : freeSlots.pop();
+                ensureCapacity(size);
+                slots.put(player.getName(), slot);
+            }
+            store(slot, player);
+            points[slot] = score(slot);
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void playerRemoved(String name) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(name);
+            if (slot != null) {
+                position[slot] = -1;
+                points[slot] = 0;
+                freeSlots.push(slot);
+                version.incrementAndGet();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public double pointsOf(Player player) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slots.get(player.getName());
+            return slot == null ? 0.0 : points[slot];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public double[] pointsOf(List<Player> players) {
+        double[] out = new double[players.size()];
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < out.length; i++) {
+                Integer slot = slots.get(players.get(i).getName());
+                out[i] = slot == null ? 0.0 : points[slot];
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return out;
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public FantasyController.ScoringRules getRules() {
+        lock.readLock().lock();
+        try {
+            return copy(rules);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void setRules(FantasyController.ScoringRules updated) {
+        FantasyController.ScoringRules next = copy(updated);
+        lock.writeLock().lock();
+        try {
+            FantasyController.ScoringRules previous = rules;
+            rules = next;
+            if (sameSharedWeights(previous, next)) {
+                boolean[] affected = new boolean[positions.size()];
+                boolean any = false;
+                for (int code = 0; code < positions.size(); code++) {
+                    String pos = positions.get(code);
+                    affected[code] = Double.compare(goalWeight(previous, pos), goalWeight(next, pos)) != 0;
+                    any |= affected[code];
+                }
+                refreshGoalWeights();
+                if (!any) {
+                    return;
+                }
+                rescore(affected);
+            } else {
+                refreshGoalWeights();
+                rescore(null);
+            }
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Recomputes every live slot, or only those whose position code is flagged.
+    private void rescore(boolean[] affected) {
+        for (int i = 0; i < size; i++) {
+            int code = position[i];
+            if (code >= 0 && (affected == null || affected[code])) {
+                points[i] = score(i);
+            }
+        }
+    }
+
+    private double score(int i) {
+        FantasyController.ScoringRules r = rules;
+        return goalWeights[position[i]] * goals[i]
+                + r.getAssist() * assists[i]
+                + r.getPenalty() * penalties[i]
+                + r.getStart() * starts[i]
+                + r.getAppearance() * subs[i]
+                + r.getPer90() * minutes[i] / 90.0
+                + r.getYellowCard() * yellows[i]
+                + r.getRedCard() * reds[i];
+    }
+
+    private void store(int slot, Player player) {
+        position[slot] = positionCode(primaryPosition(player));
+        goals[slot] = player.getGls();
+        assists[slot] = player.getAst();
+        penalties[slot] = player.getPk();
+        starts[slot] = player.getStarts();
+        subs[slot] = Math.max(0, player.getMp() - player.getStarts());
+        minutes[slot] = player.getMin();
+        yellows[slot] = player.getCrdy();
+        reds[slot] = player.getCrdr();
+    }
+
+    private int positionCode(String pos) {
+        Integer code = positionCodes.get(pos);
+        if (code == null) {
+            code = positions.size();
+            positions.add(pos);
+            positionCodes.put(pos, code);
+            refreshGoalWeights();
+        }
+        return code;
+    }
+
+    private void refreshGoalWeights() {
+        goalWeights = new double[positions.size()];
+        for (int code = 0; code < goalWeights.length; code++) {
+            goalWeights[code] = goalWeight(rules, positions.get(code));
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= position.length) {
+            return;
+        }
+        int grown = Math.max(capacity, position.length * 2);
+        position = Arrays.copyOf(position, grown);
+        goals = Arrays.copyOf(goals, grown);
+        assists = Arrays.copyOf(assists, grown);
+        penalties = Arrays.copyOf(penalties, grown);
+        starts = Arrays.copyOf(starts, grown);
+        subs = Arrays.copyOf(subs, grown);
+        minutes = Arrays.copyOf(minutes, grown);
+        yellows = Arrays.copyOf(yellows, grown);
+        reds = Arrays.copyOf(reds, grown);
+        points = Arrays.copyOf(points, grown);
+    }
+
+    private static double goalWeight(FantasyController.ScoringRules rules, String pos) {
+        Double weight = rules.getGoals().get(pos);
+        return weight == null ? 0.0 : weight;
+    }
+
+    private static boolean sameSharedWeights(FantasyController.ScoringRules a, FantasyController.ScoringRules b) {
+        return Double.compare(a.getAssist(), b.getAssist()) == 0
+                && Double.compare(a.getPenalty(), b.getPenalty()) == 0
+                && Double.compare(a.getStart(), b.getStart()) == 0
+                && Double.compare(a.getAppearance(), b.getAppearance()) == 0
+                && Double.compare(a.getPer90(), b.getPer90()) == 0
+                && Double.compare(a.getYellowCard(), b.getYellowCard()) == 0
+                && Double.compare(a.getRedCard(), b.getRedCard()) == 0;
+    }
+
+    private static FantasyController.ScoringRules copy(FantasyController.ScoringRules rules) {
+        Map<String, Double> goals = new LinkedHashMap<>();
+        if (rules.getGoals() != null) {
+            for (Map.Entry<String, Double> e : rules.getGoals().entrySet()) {
+                if (e.getKey() != null && e.getValue() != null) {
+                    goals.put(e.getKey().trim().toUpperCase(Locale.ROOT), e.getValue());
+                }
+            }
+        }
+        return new FantasyController.ScoringRules(goals, rules.getAssist(), rules.getPenalty(), rules.getStart(),
+                rules.getAppearance(), rules.getPer90(), rules.getYellowCard(), rules.getRedCard());
+    }
+}
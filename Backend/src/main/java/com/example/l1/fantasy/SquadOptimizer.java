@@ -0,0 +1,414 @@
+package com.example.l1.fantasy;
+
+import com.example.l1.player.Player;
+import com.example.l1.player.PlayerService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Picks the 15-man squad (2 GK, 5 DF, 5 MF, 3 FW) whose starting XI scores the most projected points
+ * under a budget and a per-team limit. Every legal formation is solved by branch-and-bound in parallel;
+ * the bench is then filled with the cheapest eligible players from the budget held back for it.
+ */
+@Service
+public class SquadOptimizer {
+    private static final String[] POSITIONS = {"GK", "DF", "MF", "FW"};
+    private static final int[] SQUAD_SLOTS = {2, 5, 5, 3};
+    private static final int XI_SIZE = 11;
+    private static final int SQUAD_SIZE = 15;
+    private static final int MIN_PRICE = 40;
+    private static final int MAX_PRICE = 130;
+    private static final int PRICE_STEP = 5;
+    private static final int MAX_RESERVE_ATTEMPTS = 5;
+    private static final int MAX_CACHED = 1024;
+    /** Any budget above the dearest possible squad buys the same squad. */
+    public static final double MAX_BUDGET = SQUAD_SIZE * MAX_PRICE / 10.0;
+    public static final int MAX_PER_TEAM = SQUAD_SIZE;
+    private static final int[][] FORMATIONS = {
+            {1, 3, 4, 3}, {1, 3, 5, 2}, {1, 4, 3, 3}, {1, 4, 4, 2},
+            {1, 4, 5, 1}, {1, 5, 2, 3}, {1, 5, 3, 2}, {1, 5, 4, 1}
+    };
+
+    private final PlayerService playerService;
+    private final FantasyScoringEngine scoringEngine;
+    private final Map<String, CompletableFuture<FantasyController.SquadResponse>> cache = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SquadOptimizer(PlayerService playerService, FantasyScoringEngine scoringEngine) {
+        this.playerService = playerService;
+        this.scoringEngine = scoringEngine;
+    }
+
+    public FantasyController.SquadResponse optimize(double budget, int maxPerTeam) {
+        String version = playerService.getVersion() + "." + scoringEngine.getVersion();
+        int budgetTenths = (int) Math.round(Math.min(budget, MAX_BUDGET) * 10);
+        maxPerTeam = Math.min(maxPerTeam, MAX_PER_TEAM);
+        String key = version + ":" + budgetTenths + ":" + maxPerTeam;
+        String currentPrefix = version + ":";
+        cache.keySet().removeIf(k -> !k.startsWith(currentPrefix));
+        if (cache.size() >= MAX_CACHED) {
+            cache.clear();
+        }
+
+        // Concurrent callers with the same parameters wait on one computation.
+        CompletableFuture<FantasyController.SquadResponse> created = new CompletableFuture<>();
+        CompletableFuture<FantasyController.SquadResponse> existing = cache.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing.join();
+        }
+        try {
+            List<Player> players = playerService.getPlayers();
+            created.complete(solve(players, scoringEngine.pointsOf(players), budgetTenths, maxPerTeam));
+        } catch (RuntimeException e) {
+            cache.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created.join();
+    }
+
+    static int price(double points, double maxPoints) {
+        if (maxPoints <= 0) {
+            return MIN_PRICE;
+        }
+        double share = Math.max(0, points) / maxPoints;
+        int steps = (int) Math.round(share * (MAX_PRICE - MIN_PRICE) / PRICE_STEP);
+        return MIN_PRICE + steps * PRICE_STEP;
+    }
+
+    static FantasyController.SquadResponse solve(List<Player> players, double[] points, int budget, int maxPerTeam) {
+        List<List<Candidate>> byPosition = candidates(players, points);
+        for (int p = 0; p < POSITIONS.length; p++) {
+            if (byPosition.get(p).size() < SQUAD_SLOTS[p]) {
+                return null;
+            }
+        }
+
+        Optional<Squad> best = Arrays.stream(FORMATIONS)
+                .parallel()
+                .map(formation -> solveFormation(byPosition, formation, budget, maxPerTeam))
+                .filter(Objects::nonNull)
+                .min(Comparator
+                        .comparingDouble((Squad s) -> -s.xiPoints)
+                        .thenComparingInt(s -> s.cost)
+                        .thenComparing(s -> s.formation));
+        return best.map(s -> s.toResponse(budget)).orElse(null);
+    }
+
+    private static List<List<Candidate>> candidates(List<Player> players, double[] points) {
+        double maxPoints = 0;
+        for (double p : points) {
+            maxPoints = Math.max(maxPoints, p);
+        }
+        Map<String, Integer> teamIds = new HashMap<>();
+        List<List<Candidate>> byPosition = new ArrayList<>();
+        for (int p = 0; p < POSITIONS.length; p++) {
+            byPosition.add(new ArrayList<>());
+        }
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            int pos = Arrays.asList(POSITIONS).indexOf(FantasyScoringEngine.primaryPosition(player));
+            if (pos < 0) {
+                continue;
+            }
+            String team = player.getTeam() == null ? "" : player.getTeam();
+            Integer teamId = teamIds.computeIfAbsent(team, t -> teamIds.size());
+            byPosition.get(pos).add(new Candidate(player, pos, teamId, price(points[i], maxPoints), points[i]));
+        }
+        for (List<Candidate> list : byPosition) {
+            list.sort(Candidate.BY_POINTS);
+        }
+        return byPosition;
+    }
+
+    private static Squad solveFormation(List<List<Candidate>> byPosition, int[] xiSlots, int budget, int maxPerTeam) {
+        int[] benchSlots = new int[POSITIONS.length];
+        List<List<Candidate>> cheapest = new ArrayList<>();
+        int reserve = 0;
+        for (int p = 0; p < POSITIONS.length; p++) {
+            benchSlots[p] = SQUAD_SLOTS[p] - xiSlots[p];
+            List<Candidate> byPrice = new ArrayList<>(byPosition.get(p));
+            byPrice.sort(Candidate.BY_PRICE);
+            cheapest.add(byPrice);
+            for (int i = 0; i < benchSlots[p]; i++) {
+                reserve += byPrice.get(i).price;
+            }
+        }
+
+        for (int attempt = 0; attempt < MAX_RESERVE_ATTEMPTS; attempt++) {
+            Squad squad = new Search(byPosition, cheapest, xiSlots, benchSlots, budget - reserve, maxPerTeam).run();
+            if (squad == null) {
+                return null;
+            }
+            if (squad.cost <= budget) {
+                return squad;
+            }
+            reserve += squad.cost - budget;
+        }
+        return null;
+    }
+
+    private static List<Candidate> fillBench(List<List<Candidate>> cheapest, int[] benchSlots, Collection<Candidate> xi,
+                                             int maxPerTeam) {
+        Map<Integer, Integer> teamCounts = new HashMap<>();
+        Set<Candidate> taken = new HashSet<>(xi);
+        for (Candidate c : xi) {
+            teamCounts.merge(c.team, 1, Integer::sum);
+        }
+        List<Candidate> bench = new ArrayList<>();
+        for (int p = 0; p < POSITIONS.length; p++) {
+            int needed = benchSlots[p];
+            for (Candidate c : cheapest.get(p)) {
+                if (needed == 0) {
+                    break;
+                }
+                if (taken.contains(c) || teamCounts.getOrDefault(c.team, 0) >= maxPerTeam) {
+                    continue;
+                }
+                bench.add(c);
+                teamCounts.merge(c.team, 1, Integer::sum);
+                needed--;
+            }
+            if (needed > 0) {
+                return null;
+            }
+        }
+        return bench;
+    }
+
+    /**
+     * Depth-first search over the XI, position by position, taking candidates in points order so the
+     * first leaves found are strong incumbents. Branches are bounded by per-position knapsack tables
+     * (best points for k picks from a suffix of the list within a price), which respect the budget
+     * exactly and only relax the per-team limit. A leaf only counts once a bench can be picked beside
+     * it, so bench players take their share of the per-team limit.
+     */
+    private static final class Search {
+        private static final double NONE = Double.NEGATIVE_INFINITY;
+
+        final Candidate[][] candidates = new Candidate[POSITIONS.length][];
+        // best[p][i][k][b]: most points from k of candidates[p][i..] costing at most b price steps.
+        final double[][][][] best = new double[POSITIONS.length][][][];
+        // later[p][b]: most points for all slots of positions p.. within b price steps.
+        final double[][] later = new double[POSITIONS.length + 1][];
+        final List<List<Candidate>> cheapest;
+        final int[] slots;
+        final int[] benchSlots;
+        final int budget;
+        final int maxPerTeam;
+        final Map<Integer, Integer> teamCounts = new HashMap<>();
+        final Deque<Candidate> chosen = new ArrayDeque<>();
+        double bestPoints = NONE;
+        Squad bestSquad;
+
+        Search(List<List<Candidate>> byPosition, List<List<Candidate>> cheapest, int[] slots, int[] benchSlots,
+               int budget, int maxPerTeam) {
+            this.cheapest = cheapest;
+            this.slots = slots;
+            this.benchSlots = benchSlots;
+            this.budget = budget < 0 ? -1 : Math.min(budget / PRICE_STEP, XI_SIZE * MAX_PRICE / PRICE_STEP);
+            this.maxPerTeam = maxPerTeam;
+            for (int p = 0; p < POSITIONS.length; p++) {
+                candidates[p] = prune(byPosition.get(p), slots[p], maxPerTeam);
+            }
+            if (this.budget < 0) {
+                return;
+            }
+            for (int p = 0; p < POSITIONS.length; p++) {
+                best[p] = knapsack(candidates[p], slots[p], this.budget);
+            }
+            later[POSITIONS.length] = new double[this.budget + 1];
+            for (int p = POSITIONS.length - 1; p >= 0; p--) {
+                later[p] = new double[this.budget + 1];
+                double[] own = best[p][0][slots[p]];
+                for (int b = 0; b <= this.budget; b++) {
+                    later[p][b] = combine(own, later[p + 1], b);
+                }
+            }
+        }
+
+        Squad run() {
+            if (budget >= 0) {
+                dfs(0, 0, 0, 0.0, 0);
+            }
+            return bestSquad;
+        }
+
+        private void dfs(int pos, int start, int filled, double points, int cost) {
+            if (pos == POSITIONS.length) {
+                if (points > bestPoints) {
+                    List<Candidate> bench = fillBench(cheapest, benchSlots, chosen, maxPerTeam);
+                    if (bench != null) {
+                        int squadCost = cost * PRICE_STEP;
+                        for (Candidate c : bench) {
+                            squadCost += c.price;
+                        }
+                        bestPoints = points;
+                        bestSquad = new Squad(slots, new ArrayList<>(chosen), bench, squadCost);
+                    }
+                }
+                return;
+            }
+            int remaining = slots[pos] - filled;
+            if (remaining == 0) {
+                dfs(pos + 1, 0, 0, points, cost);
+                return;
+            }
+            double reachable = points + combine(best[pos][start][remaining], later[pos + 1], budget - cost);
+            if (reachable <= bestPoints) {
+                return;
+            }
+            Candidate[] list = candidates[pos];
+            for (int i = start; i <= list.length - remaining; i++) {
+                Candidate c = list[i];
+                int price = c.price / PRICE_STEP;
+                if (cost + price > budget) {
+                    continue;
+                }
+                int teamCount = teamCounts.getOrDefault(c.team, 0);
+                if (teamCount >= maxPerTeam) {
+                    continue;
+                }
+                teamCounts.put(c.team, teamCount + 1);
+                chosen.addLast(c);
+                dfs(pos, i + 1, filled + 1, points + c.points, cost + price);
+                chosen.removeLast();
+                teamCounts.put(c.team, teamCount);
+                if (points + combine(best[pos][i + 1][remaining], later[pos + 1], budget - cost) <= bestPoints) {
+                    return;
+                }
+            }
+        }
+
+        private static double combine(double[] first, double[] rest, int budget) {
+            double out = NONE;
+            for (int b = 0; b <= budget; b++) {
+                if (first[b] != NONE && rest[budget - b] != NONE) {
+                    out = Math.max(out, first[b] + rest[budget - b]);
+                }
+            }
+            return out;
+        }
+
+        private static double[][][] knapsack(Candidate[] list, int slots, int budget) {
+            double[][][] table = new double[list.length + 1][slots + 1][budget + 1];
+            for (int i = list.length; i >= 0; i--) {
+                for (int k = 0; k <= slots; k++) {
+                    double[] row = table[i][k];
+                    if (k == 0) {
+                        continue;
+                    }
+                    if (i == list.length) {
+                        Arrays.fill(row, NONE);
+                        continue;
+                    }
+                    double[] skip = table[i + 1][k];
+                    double[] take = table[i + 1][k - 1];
+                    int price = list[i].price / PRICE_STEP;
+                    for (int b = 0; b <= budget; b++) {
+                        row[b] = skip[b];
+                        if (b >= price && take[b - price] != NONE) {
+                            row[b] = Math.max(row[b], take[b - price] + list[i].points);
+                        }
+                    }
+                }
+            }
+            return table;
+        }
+
+        /*
+         * A candidate can be dropped when enough players from distinct teams are at least as good and no
+         * dearer: the other fourteen squad players can fill at most 14 / maxPerTeam teams and slots - 1
+         * places in this XI position, so one of those players is always free to swap in (a bench player
+         * swaps places with the dropped one, leaving the team counts alone).
+         */
+        private static Candidate[] prune(List<Candidate> sorted, int slots, int maxPerTeam) {
+            if (slots == 0) {
+                return new Candidate[0];
+            }
+            int needed = slots + (SQUAD_SIZE - 1) / maxPerTeam;
+            List<Candidate> kept = new ArrayList<>();
+            for (int i = 0; i < sorted.size(); i++) {
+                Candidate c = sorted.get(i);
+                Set<Integer> dominatingTeams = new HashSet<>();
+                for (int j = 0; j < i && dominatingTeams.size() < needed; j++) {
+                    if (sorted.get(j).price <= c.price) {
+                        dominatingTeams.add(sorted.get(j).team);
+                    }
+                }
+                if (dominatingTeams.size() < needed) {
+                    kept.add(c);
+                }
+            }
+            return kept.toArray(new Candidate[0]);
+        }
+    }
+
+    private static final class Candidate {
+        static final Comparator<Candidate> BY_POINTS = Comparator
+                .comparingDouble((Candidate c) -> -c.points)
+                .thenComparingInt(c -> c.price)
+                .thenComparing(c -> c.player.getName());
+        static final Comparator<Candidate> BY_PRICE = Comparator
+                .comparingInt((Candidate c) -> c.price)
+                .thenComparingDouble(c -> -c.points)
+                .thenComparing(c -> c.player.getName());
+
+        final Player player;
+        final int pos;
+        final int team;
+        final int price;
+        final double points;
+
+        Candidate(Player player, int pos, int team, int price, double points) {
+            this.player = player;
+            this.pos = pos;
+            this.team = team;
+            this.price = price;
+            this.points = points;
+        }
+    }
+
+    private static final class Squad {
+        final String formation;
+        final List<Candidate> xi;
+        final List<Candidate> bench;
+        final int cost;
+        final double xiPoints;
+
+        Squad(int[] slots, List<Candidate> xi, List<Candidate> bench, int cost) {
+            this.formation = slots[1] + "-" + slots[2] + "-" + slots[3];
+            this.xi = xi;
+            this.bench = bench;
+            this.cost = cost;
+            double sum = 0;
+            for (Candidate c : xi) {
+                sum += c.points;
+            }
+            this.xiPoints = sum;
+        }
+
+        FantasyController.SquadResponse toResponse(int budget) {
+            double squadPoints = xiPoints;
+            for (Candidate c : bench) {
+                squadPoints += c.points;
+            }
+            return new FantasyController.SquadResponse(
+                    formation,
+                    budget / 10.0,
+                    cost / 10.0,
+                    xiPoints,
+                    squadPoints,
+                    xi.stream().map(Squad::toPlayer).collect(Collectors.toList()),
+                    bench.stream().map(Squad::toPlayer).collect(Collectors.toList()));
+        }
+
+        private static FantasyController.SquadPlayer toPlayer(Candidate c) {
+            return new FantasyController.SquadPlayer(c.player.getName(), c.player.getTeam(), POSITIONS[c.pos], c.price / 10.0, c.points);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.l1.ligue1;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The compact standings shape behind {@code format=columnar} and {@code format=cbor}: column names and
+ * one declared type per column once per table, then each row as a positional array read straight from
+ * the {@link TeamTable} counters, instead of a map repeating every column name with string values.
+ */
+final class ColumnarFormat {
+    static final String INT = "int";
+    static final String STRING = "string";
+    // Pts/MP; null before a team has played.
+    static final String DOUBLE = "double";
+
+    private static final List<String> OVERALL_COLUMNS = Collections.unmodifiableList(Arrays.asList(
+            "Rk", "Squad", "MP", "W", "D", "L", "GF", "GA", "GD", "Pts", "Pts/MP"));
+    private static final List<String> OVERALL_TYPES = Collections.unmodifiableList(Arrays.asList(
+            INT, STRING, INT, INT, INT, INT, INT, INT, INT, INT, DOUBLE));
+    private static final List<String> HOME_AWAY_COLUMNS = Collections.unmodifiableList(Arrays.asList(
+            "Rk", "Squad",
+            "Home MP", "Home W", "Home D", "Home L", "Home GF", "Home GA", "Home GD", "Home Pts",
+            "Away MP", "Away W", "Away D", "Away L", "Away GF", "Away GA", "Away GD", "Away Pts"));
+    private static final List<String> HOME_AWAY_TYPES = Collections.unmodifiableList(Arrays.asList(
+            INT, STRING, INT, INT, INT, INT, INT, INT, INT, INT, INT, INT, INT, INT, INT, INT, INT, INT));
+
+    private ColumnarFormat() {
+    }
+
+    /** Both tables ranked like the row-map standings; {@code overall} decides the order. */
+    static Ligue1Controller.ColumnarStandings of(MatchStore matches, String[] sortKeys,
+                                                 TeamTable overall, TeamTable home, TeamTable away) {
+        int[] order = matches.playedOnly(overall.ranking(sortKeys), overall);
+        List<List<Object>> overallRows = new ArrayList<>(order.length);
+        List<List<Object>> homeAwayRows = new ArrayList<>(order.length);
+        for (int i = 0; i < order.length; i++) {
+            int t = order[i];
+            String squad = matches.team(t);
+            overallRows.add(Arrays.asList(i + 1, squad,
+                    overall.mp[t], overall.w[t], overall.d[t], overall.l[t],
+                    overall.gf[t], overall.ga[t], overall.gf[t] - overall.ga[t], overall.pts[t],
+                    pointsPerMatch(overall, t)));
+            homeAwayRows.add(Arrays.asList(i + 1, squad,
+                    home.mp[t], home.w[t], home.d[t], home.l[t], home.gf[t], home.ga[t], home.gf[t] - home.ga[t], home.pts[t],
+                    away.mp[t], away.w[t], away.d[t], away.l[t], away.gf[t], away.ga[t], away.gf[t] - away.ga[t], away.pts[t]));
+        }
+        return new Ligue1Controller.ColumnarStandings(
+                new Ligue1Controller.ColumnarTable(OVERALL_COLUMNS, OVERALL_TYPES, overallRows),
+                new Ligue1Controller.ColumnarTable(HOME_AWAY_COLUMNS, HOME_AWAY_TYPES, homeAwayRows));
+    }
+
+    // Rounded half-up to two places from the same decimal that %.2f starts from, so it matches the JSON view.
+    static Double pointsPerMatch(TeamTable table, int team) {
+        if (table.mp[team] == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf((double) table.pts[team] / table.mp[team]).setScale(2, RoundingMode.HALF_UP).doubleValue();
+    }
+}
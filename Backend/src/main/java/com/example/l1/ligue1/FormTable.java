@@ -0,0 +1,162 @@
+package com.example.l1.ligue1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The last {@link #CAPACITY} results of every team in one competition, kept in a fixed ring buffer per
+ * team. Recording a match overwrites the oldest slot of each side, so updates are O(1) and a team's
+ * form over its last n matches reads at most n slots.
+ */
+final class FormTable {
+    static final int CAPACITY = 10;
+
+    private final MatchStore matches;
+    private final String[] sortKeys;
+    // Slot (t, i) lives at t * CAPACITY + i.
+    private final byte[] goalsFor;
+    private final byte[] goalsAgainst;
+    private final int[] next;
+    private final int[] count;
+    // Sort key of the last match recorded, so an append can tell whether it still comes after it.
+    private int lastDate = Integer.MIN_VALUE;
+    private int lastMatchday = Integer.MIN_VALUE;
+
+    FormTable(MatchStore matches, String[] sortKeys) {
+        this.matches = matches;
+        this.sortKeys = sortKeys;
+        int teams = matches.teamCount();
+        this.goalsFor = new byte[teams * CAPACITY];
+        this.goalsAgainst = new byte[teams * CAPACITY];
+        this.next = new int[teams];
+        this.count = new int[teams];
+
+        for (int m : kickOffOrder(matches, 0)) {
+            record(m);
+        }
+    }
+
+    private FormTable(FormTable earlier, MatchStore matches, String[] sortKeys) {
+        this.matches = matches;
+        this.sortKeys = sortKeys;
+        int teams = matches.teamCount();
+        this.goalsFor = Arrays.copyOf(earlier.goalsFor, teams * CAPACITY);
+        this.goalsAgainst = Arrays.copyOf(earlier.goalsAgainst, teams * CAPACITY);
+        this.next = Arrays.copyOf(earlier.next, teams);
+        this.count = Arrays.copyOf(earlier.count, teams);
+        this.lastDate = earlier.lastDate;
+        this.lastMatchday = earlier.lastMatchday;
+    }
+
+    /**
+     * A table for {@code matches} that copies this one and records only the appended results, when the
+     * store grew by appending and none of the new matches kicks off before the last one recorded;
+     * otherwise it rebuilds from scratch.
+     */
+    FormTable extendTo(MatchStore matches, String[] sortKeys) {
+        if (!matches.startsWith(this.matches)) {
+            return new FormTable(matches, sortKeys);
+        }
+        Integer[] added = kickOffOrder(matches, this.matches.size());
+        if (added.length > 0 && compare(matches.date(added[0]), matches.matchday(added[0]), lastDate, lastMatchday) < 0) {
+            return new FormTable(matches, sortKeys);
+        }
+        FormTable extended = new FormTable(this, matches, sortKeys);
+        for (int m : added) {
+            extended.record(m);
+        }
+        return extended;
+    }
+
+    /** Adds one match to both sides' buffers; matches must arrive in kick-off order. */
+    void record(int match) {
+        record(matches.home(match), matches.homeGoals(match), matches.awayGoals(match));
+        record(matches.away(match), matches.awayGoals(match), matches.homeGoals(match));
+        lastDate = matches.date(match);
+        lastMatchday = matches.matchday(match);
+    }
+
+    /** Form of one team over its last {@code n} matches (at most {@link #CAPACITY}). */
+    Ligue1Controller.FormRow row(int team, int n) {
+        int take = Math.min(n, count[team]);
+        int w = 0;
+        int d = 0;
+        int l = 0;
+        int gf = 0;
+        int ga = 0;
+        StringBuilder results = new StringBuilder(take);
+        // Oldest of the window first, so the string reads left to right in kick-off order.
+        for (int i = take; i >= 1; i--) {
+            int slot = team * CAPACITY + Math.floorMod(next[team] - i, CAPACITY);
+            int scored = goalsFor[slot];
+            int conceded = goalsAgainst[slot];
+            gf += scored;
+            ga += conceded;
+            if (scored > conceded) {
+                w++;
+                results.append('W');
+            } else if (scored == conceded) {
+                d++;
+                results.append('D');
+            } else {
+                l++;
+                results.append('L');
+            }
+        }
+        return new Ligue1Controller.FormRow(matches.team(team), take, w, d, l, gf, ga, gf - ga, 3 * w + d, results.toString());
+    }
+
+    /** Every team that has played, ranked by points over its last {@code n} matches, then goal difference, goals for and name. */
+    List<Ligue1Controller.FormRow> table(int n) {
+        int teams = matches.teamCount();
+        Ligue1Controller.FormRow[] rows = new Ligue1Controller.FormRow[teams];
+        Integer[] order = new Integer[teams];
+        for (int t = 0; t < teams; t++) {
+            rows[t] = row(t, n);
+            order[t] = t;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int byPts = Integer.compare(rows[b].getPts(), rows[a].getPts());
+            if (byPts != 0) return byPts;
+            int byGd = Integer.compare(rows[b].getGd(), rows[a].getGd());
+            if (byGd != 0) return byGd;
+            int byGf = Integer.compare(rows[b].getGf(), rows[a].getGf());
+            if (byGf != 0) return byGf;
+            return sortKeys[a].compareTo(sortKeys[b]);
+        });
+        List<Ligue1Controller.FormRow> out = new ArrayList<>(teams);
+        for (int t : order) {
+            if (matches.hasResults(t)) {
+                out.add(rows[t]);
+            }
+        }
+        return out;
+    }
+
+    // Matches from index {@code from} on, by date then matchday; the sort is stable, so ties keep file order.
+    private static Integer[] kickOffOrder(MatchStore matches, int from) {
+        Integer[] order = new Integer[matches.size() - from];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = from + i;
+        }
+        Arrays.sort(order, (a, b) -> compare(matches.date(a), matches.matchday(a), matches.date(b), matches.matchday(b)));
+        return order;
+    }
+
+    private static int compare(int date, int matchday, int otherDate, int otherMatchday) {
+        int byDate = Integer.compare(date, otherDate);
+        if (byDate != 0) return byDate;
+        return Integer.compare(matchday, otherMatchday);
+    }
+
+    private void record(int team, int scored, int conceded) {
+        int slot = team * CAPACITY + next[team];
+        goalsFor[slot] = (byte) scored;
+        goalsAgainst[slot] = (byte) conceded;
+        next[team] = (next[team] + 1) % CAPACITY;
+        if (count[team] < CAPACITY) {
+            count[team]++;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.l1.ligue1;
+
+import com.example.l1.TextNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * All-pairs head-to-head records for one {@link MatchStore}, built once per data version. Cells are
+ * split by venue so a query that matches several teams can still count each match exactly once, and
+ * every team's opponents are pre-sorted so the usual single-team lookup is a walk over one row.
+ */
+final class HeadToHead {
+    private static final int MP = 0;
+    private static final int W = 1;
+    private static final int D = 2;
+    private static final int L = 3;
+    private static final int GF = 4;
+    private static final int GA = 5;
+    private static final int PTS = 6;
+    private static final int FIELDS = 7;
+
+    private final MatchStore matches;
+    private final int teams;
+    private final String[] keys;
+    // Cell (t, o) holds t's record against o, at (t * teams + o) * FIELDS; home[] when t hosted, away[] when o did.
+    private final int[] home;
+    private final int[] away;
+    private final int[][] order;
+
+    HeadToHead(MatchStore matches) {
+        this.matches = matches;
+        this.teams = matches.teamCount();
+        this.keys = new String[teams];
+        for (int t = 0; t < teams; t++) {
+            keys[t] = TextNormalizer.normalize(matches.team(t));
+        }
+        this.home = new int[teams * teams * FIELDS];
+        this.away = new int[teams * teams * FIELDS];
+        for (int m = 0; m < matches.size(); m++) {
+            int h = matches.home(m);
+            int a = matches.away(m);
+            apply(home, cell(h, a), matches.homeGoals(m), matches.awayGoals(m));
+            apply(away, cell(a, h), matches.awayGoals(m), matches.homeGoals(m));
+        }
+
+        int[] total = new int[FIELDS * teams];
+        this.order = new int[teams][];
+        for (int t = 0; t < teams; t++) {
+            int count = 0;
+            for (int o = 0; o < teams; o++) {
+                int c = cell(t, o);
+                for (int f = 0; f < FIELDS; f++) {
+                    total[o * FIELDS + f] = home[c + f] + away[c + f];
+                }
+                if (total[o * FIELDS + MP] > 0) {
+                    count++;
+                }
+            }
+            order[t] = sorted(total, count);
+        }
+    }
+
+    /** Records of the team(s) matching {@code team} against each opponent, best first. */
+    List<Ligue1Controller.H2HRow> rows(String team) {
+        String wanted = TextNormalizer.normalize(team);
+        boolean[] selected = new boolean[teams];
+        int matched = -1;
+        int selectedCount = 0;
+        for (int t = 0; t < teams; t++) {
+            if (isSameTeam(wanted, keys[t])) {
+                selected[t] = true;
+                matched = t;
+                selectedCount++;
+            }
+        }
+        if (selectedCount == 0) {
+            return new ArrayList<>();
+        }
+        if (selectedCount == 1) {
+            return rows(matched);
+        }
+
+        // A match between two selected teams counts once, from the home side (as the scan used to).
+        int[] total = new int[FIELDS * teams];
+        for (int t = 0; t < teams; t++) {
+            if (selected[t]) {
+                addRow(total, t, selected);
+            }
+        }
+        int count = 0;
+        for (int o = 0; o < teams; o++) {
+            if (total[o * FIELDS + MP] > 0) {
+                count++;
+            }
+        }
+        return toRows(total, sorted(total, count));
+    }
+
+    /** Records of one team, by store id, against each opponent, best first. */
+    List<Ligue1Controller.H2HRow> rows(int team) {
+        if (team < 0 || team >= teams) {
+            return new ArrayList<>();
+        }
+        int[] total = new int[FIELDS * teams];
+        addRow(total, team, null);
+        return toRows(total, order[team]);
+    }
+
+    private List<Ligue1Controller.H2HRow> toRows(int[] total, int[] opponents) {
+        List<Ligue1Controller.H2HRow> out = new ArrayList<>(opponents.length);
+        for (int o : opponents) {
+            int base = o * FIELDS;
+            out.add(new Ligue1Controller.H2HRow(
+                    matches.team(o),
+                    total[base + MP],
+                    total[base + W],
+                    total[base + D],
+                    total[base + L],
+                    total[base + GF],
+                    total[base + GA],
+                    total[base + GF] - total[base + GA],
+                    total[base + PTS]));
+        }
+        return out;
+    }
+
+    private void addRow(int[] total, int t, boolean[] skipAwayAgainst) {
+        for (int o = 0; o < teams; o++) {
+            int c = cell(t, o);
+            boolean countAway = skipAwayAgainst == null || !skipAwayAgainst[o];
+            for (int f = 0; f < FIELDS; f++) {
+                total[o * FIELDS + f] += home[c + f] + (countAway ? away[c + f] : 0);
+            }
+        }
+    }
+
+    private int[] sorted(int[] total, int count) {
+        Integer[] ids = new Integer[count];
+        int n = 0;
+        for (int o = 0; o < teams; o++) {
+            if (total[o * FIELDS + MP] > 0) {
+                ids[n++] = o;
+            }
+        }
+        Arrays.sort(ids, (a, b) -> {
+            int byPts = Integer.compare(total[b * FIELDS + PTS], total[a * FIELDS + PTS]);
+            if (byPts != 0) return byPts;
+            int gdA = total[a * FIELDS + GF] - total[a * FIELDS + GA];
+            int gdB = total[b * FIELDS + GF] - total[b * FIELDS + GA];
+            int byGd = Integer.compare(gdB, gdA);
+            if (byGd != 0) return byGd;
+            int byGf = Integer.compare(total[b * FIELDS + GF], total[a * FIELDS + GF]);
+            if (byGf != 0) return byGf;
+            return keys[a].compareTo(keys[b]);
+        });
+        int[] out = new int[count];
+        for (int i = 0; i < count; i++) {
+            out[i] = ids[i];
+        }
+        return out;
+    }
+
+    private int cell(int team, int opponent) {
+        return (team * teams + opponent) * FIELDS;
+    }
+
+    private static void apply(int[] cells, int c, int goalsFor, int goalsAgainst) {
+        cells[c + MP]++;
+        cells[c + GF] += goalsFor;
+        cells[c + GA] += goalsAgainst;
+        if (goalsFor > goalsAgainst) {
+            cells[c + W]++;
+            cells[c + PTS] += 3;
+        } else if (goalsFor == goalsAgainst) {
+            cells[c + D]++;
+            cells[c + PTS] += 1;
+        } else {
+            cells[c + L]++;
+        }
+    }
+
+    private static boolean isSameTeam(String wanted, String key) {
+        if (wanted == null || wanted.isEmpty()) {
+            return false;
+        }
+        return key.equals(wanted) || key.contains(wanted) || wanted.contains(key);
+    }
+}
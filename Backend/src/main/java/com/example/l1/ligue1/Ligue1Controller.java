@@ -1,31 +1,262 @@
 package com.example.l1.ligue1;
 
+import com.example.l1.DataVersion;
+import com.example.l1.ResponseCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 @RestController
 @RequestMapping(path = "api/v1/ligue1")
 public class Ligue1Controller {
+    private static final String DEFAULT_COMPETITION = "FL1";
+    // Run counts are presets: each one is a cache entry and a bounded amount of work.
+    private static final List<Integer> SIMULATION_RUNS = Arrays.asList(1_000, 10_000, 100_000);
+    private static final int MAX_SCENARIO_RESULTS = 1000;
+    private static final String FORMAT_JSON = "json";
+    private static final String FORMAT_COLUMNAR = "columnar";
+    private static final String FORMAT_CBOR = "cbor";
+
     private final Ligue1Service ligue1Service;
+    private final DataVersion dataVersion;
+    private final ResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper = new CBORMapper();
 
+    // Every GET first answers If-None-Match against the data version, so an unchanged page costs a header
+    // check; the hottest ones then serve finished (and pre-gzipped) bytes from the response cache.
     @Autowired
-    public Ligue1Controller(Ligue1Service ligue1Service) {
+    public Ligue1Controller(Ligue1Service ligue1Service, DataVersion dataVersion, ResponseCache responseCache,
+                            ObjectMapper objectMapper) {
         this.ligue1Service = ligue1Service;
+        this.dataVersion = dataVersion;
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
     }
 
+    /**
+     * {@code format=json} (default) keeps the column-keyed row maps; {@code columnar} sends names once
+     * and rows as typed arrays; {@code cbor} is the columnar shape in binary CBOR.
+     */
     @GetMapping("/standings")
-    public StandingsResponse standings() {
-        return ligue1Service.getStandings();
+    public ResponseEntity<byte[]> standings(
+            @RequestParam(defaultValue = DEFAULT_COMPETITION) String competition,
+            @RequestParam(required = false) Integer matchday,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String view,
+            @RequestParam(required = false) String month,
+            @RequestParam(defaultValue = FORMAT_JSON) String format,
+            WebRequest request) throws IOException {
+        if (matchday != null && date != null) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        String formatName = format.trim().toLowerCase(Locale.ROOT);
+        if (!formatName.equals(FORMAT_JSON) && !formatName.equals(FORMAT_COLUMNAR) && !formatName.equals(FORMAT_CBOR)) {
+            return badRequest("Unknown format: " + format + ", expected json, columnar or cbor");
+        }
+        String code = competition.trim().toUpperCase(Locale.ROOT);
+        String viewName = view == null ? null : view.trim().toLowerCase(Locale.ROOT);
+        boolean overall = viewName == null || viewName.equals("overall");
+        if (!overall && (matchday != null || date != null)) {
+            return badRequest("matchday and date only apply to the overall view");
+        }
+        // Only the month view reads it, so only there does it reach the cache key.
+        YearMonth yearMonth = null;
+        if (TableViews.MONTH.equals(viewName) && month != null) {
+            try {
+                yearMonth = YearMonth.parse(month.trim());
+            } catch (DateTimeParseException e) {
+                return badRequest("Invalid month: " + month + ", expected yyyy-MM");
+            }
+        }
+        String monthKey = yearMonth == null ? null : yearMonth.toString();
+        Integer epochDay = date == null ? null : (int) date.toEpochDay();
+        String key = "standings?" + code + "&view=" + viewName + (monthKey == null ? "" : "&month=" + monthKey)
+                + "&matchday=" + matchday + "&date=" + epochDay + "&format=" + formatName;
+        MediaType mediaType = formatName.equals(FORMAT_CBOR) ? MediaType.APPLICATION_CBOR : MediaType.APPLICATION_JSON;
+        try {
+            return responseCache.respond(request, DataVersion.Scope.MATCHES, key, mediaType, () -> {
+                if (formatName.equals(FORMAT_JSON)) {
+                    if (!overall) {
+                        return ligue1Service.getStandingsJsonView(code, viewName, monthKey);
+                    }
+                    return matchday == null && date == null
+                            ? ligue1Service.getStandingsJson(code)
+                            : ligue1Service.getStandingsJsonAt(code, matchday, epochDay);
+                }
+                ColumnarStandings columnar = overall && (matchday != null || date != null)
+                        ? ligue1Service.getColumnarStandingsAt(code, matchday, epochDay)
+                        : ligue1Service.getColumnarStandingsView(code, overall ? TableViews.OVERALL : viewName, monthKey);
+                if (columnar == null) {
+                    return null;
+                }
+                ObjectMapper mapper = formatName.equals(FORMAT_CBOR) ? cborMapper : objectMapper;
+                return mapper.writeValueAsBytes(columnar);
+            });
+        } catch (IllegalArgumentException e) {
+            return badRequest(e.getMessage());
+        }
     }
 
     @GetMapping("/h2h")
-    public List<H2HRow> h2h(@RequestParam String team) {
-        return ligue1Service.getHeadToHead(team);
+    public ResponseEntity<byte[]> h2h(@RequestParam String team,
+                                      @RequestParam(defaultValue = DEFAULT_COMPETITION) String competition,
+                                      WebRequest request) throws IOException {
+        String code = competition.trim().toUpperCase(Locale.ROOT);
+        return responseCache.respond(request, DataVersion.Scope.MATCHES, "h2h?" + code + "&team=" + team, () -> {
+            List<H2HRow> rows = ligue1Service.getHeadToHead(code, team);
+            return rows == null ? null : objectMapper.writeValueAsBytes(rows);
+        });
+    }
+
+    @GetMapping("/progression")
+    public ResponseEntity<List<TeamProgression>> progression(
+            @RequestParam(defaultValue = DEFAULT_COMPETITION) String competition,
+            @RequestParam(required = false) String team,
+            WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag(DataVersion.Scope.MATCHES))) {
+            return null;
+        }
+        List<TeamProgression> series = ligue1Service.getProgression(competition.trim().toUpperCase(Locale.ROOT), team);
+        if (series == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(series, HttpStatus.OK);
+    }
+
+    @GetMapping("/form")
+    public ResponseEntity<List<FormRow>> form(
+            @RequestParam(defaultValue = DEFAULT_COMPETITION) String competition,
+            @RequestParam(required = false) String team,
+            @RequestParam(defaultValue = "5") int n,
+            WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag(DataVersion.Scope.MATCHES))) {
+            return null;
+        }
+        if (n < 1 || n > FormTable.CAPACITY) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        List<FormRow> rows = ligue1Service.getForm(competition.trim().toUpperCase(Locale.ROOT), team, n);
+        if (rows == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(rows, HttpStatus.OK);
+    }
+
+    @GetMapping("/simulate")
+    public ResponseEntity<SimulationResult> simulate(
+            @RequestParam(defaultValue = DEFAULT_COMPETITION) String competition,
+            @RequestParam(defaultValue = "100000") int runs,
+            @RequestParam(required = false) Integer afterMatchday,
+            WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag(DataVersion.Scope.MATCHES))) {
+            return null;
+        }
+        if (!SIMULATION_RUNS.contains(runs) || (afterMatchday != null && afterMatchday < 0)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        SimulationResult result = ligue1Service.simulate(competition.trim().toUpperCase(Locale.ROOT), afterMatchday, runs);
+        if (result == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
+    @GetMapping("/predict")
+    public ResponseEntity<Prediction> predict(
+            @RequestParam String home,
+            @RequestParam String away,
+            @RequestParam(defaultValue = DEFAULT_COMPETITION) String competition,
+            WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag(DataVersion.Scope.MATCHES))) {
+            return null;
+        }
+        if (ligue1Service.resolvesToSameTeam(home, away)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        Prediction prediction = ligue1Service.predict(competition.trim().toUpperCase(Locale.ROOT), home, away);
+        if (prediction == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(prediction, HttpStatus.OK);
+    }
+
+    @GetMapping("/predict/matchday")
+    public ResponseEntity<List<Prediction>> predictMatchday(
+            @RequestParam int matchday,
+            @RequestParam(defaultValue = DEFAULT_COMPETITION) String competition,
+            WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag(DataVersion.Scope.MATCHES))) {
+            return null;
+        }
+        List<Prediction> predictions = ligue1Service.predictMatchday(competition.trim().toUpperCase(Locale.ROOT), matchday);
+        if (predictions == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(predictions, HttpStatus.OK);
+    }
+
+    @PostMapping("/scenario")
+    public ResponseEntity<byte[]> scenario(@RequestBody Scenario scenario) {
+        String competition = scenario.getCompetition() == null ? DEFAULT_COMPETITION : scenario.getCompetition();
+        List<ScenarioResult> results = scenario.getResults() == null ? new ArrayList<>() : scenario.getResults();
+        if (results.size() > MAX_SCENARIO_RESULTS || (scenario.getAfterMatchday() != null && scenario.getAfterMatchday() < 0)) {
+            return badRequest("results must hold at most " + MAX_SCENARIO_RESULTS + " matches and afterMatchday must be >= 0");
+        }
+        byte[] json;
+        try {
+            json = ligue1Service.getScenarioStandingsJson(competition.trim().toUpperCase(Locale.ROOT),
+                    scenario.getAfterMatchday(), results);
+        } catch (IllegalArgumentException e) {
+            return badRequest(e.getMessage());
+        }
+        if (json == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json);
+    }
+
+    @GetMapping("/competitions")
+    public Set<String> competitions(WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag(DataVersion.Scope.MATCHES))) {
+            return null;
+        }
+        return ligue1Service.getCompetitions();
+    }
+
+    @PostMapping("/reload")
+    public ReloadResult reload() {
+        return ligue1Service.reload();
+    }
+
+    private ResponseEntity<byte[]> badRequest(String message) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(message.getBytes(StandardCharsets.UTF_8));
     }
 
     public static class LeagueTable {
@@ -105,6 +336,74 @@ public class Ligue1Controller {
         }
     }
 
+    public static class ColumnarTable {
+        private List<String> columns;
+        private List<String> types;
+        private List<List<Object>> rows;
+
+        public ColumnarTable() {
+        }
+
+        public ColumnarTable(List<String> columns, List<String> types, List<List<Object>> rows) {
+            this.columns = columns;
+            this.types = types;
+            this.rows = rows;
+        }
+
+        public List<String> getColumns() {
+            return columns;
+        }
+
+        public void setColumns(List<String> columns) {
+            this.columns = columns;
+        }
+
+        public List<String> getTypes() {
+            return types;
+        }
+
+        public void setTypes(List<String> types) {
+            this.types = types;
+        }
+
+        public List<List<Object>> getRows() {
+            return rows;
+        }
+
+        public void setRows(List<List<Object>> rows) {
+            this.rows = rows;
+        }
+    }
+
+    public static class ColumnarStandings {
+        private ColumnarTable overall;
+        private ColumnarTable homeAway;
+
+        public ColumnarStandings() {
+        }
+
+        public ColumnarStandings(ColumnarTable overall, ColumnarTable homeAway) {
+            this.overall = overall;
+            this.homeAway = homeAway;
+        }
+
+        public ColumnarTable getOverall() {
+            return overall;
+        }
+
+        public void setOverall(ColumnarTable overall) {
+            this.overall = overall;
+        }
+
+        public ColumnarTable getHomeAway() {
+            return homeAway;
+        }
+
+        public void setHomeAway(ColumnarTable homeAway) {
+            this.homeAway = homeAway;
+        }
+    }
+
     public static class H2HRow {
         private String opponent;
         private int mp;
@@ -203,5 +502,506 @@ public class Ligue1Controller {
             this.pts = pts;
         }
     }
-}
 
+    public static class ReloadResult {
+        private int matches;
+        private long version;
+        private long millis;
+
+        public ReloadResult() {
+        }
+
+        public ReloadResult(int matches, long version, long millis) {
+            this.matches = matches;
+            this.version = version;
+            this.millis = millis;
+        }
+
+        public int getMatches() {
+            return matches;
+        }
+
+        public void setMatches(int matches) {
+            this.matches = matches;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public void setVersion(long version) {
+            this.version = version;
+        }
+
+        public long getMillis() {
+            return millis;
+        }
+
+        public void setMillis(long millis) {
+            this.millis = millis;
+        }
+    }
+
+    public static class TeamProgression {
+        private String team;
+        private List<Integer> matchdays;
+        private List<Integer> points;
+        private List<Integer> positions;
+
+        public TeamProgression() {
+        }
+
+        public TeamProgression(String team, List<Integer> matchdays, List<Integer> points, List<Integer> positions) {
+            this.team = team;
+            this.matchdays = matchdays;
+            this.points = points;
+            this.positions = positions;
+        }
+
+        public String getTeam() {
+            return team;
+        }
+
+        public void setTeam(String team) {
+            this.team = team;
+        }
+
+        public List<Integer> getMatchdays() {
+            return matchdays;
+        }
+
+        public void setMatchdays(List<Integer> matchdays) {
+            this.matchdays = matchdays;
+        }
+
+        public List<Integer> getPoints() {
+            return points;
+        }
+
+        public void setPoints(List<Integer> points) {
+            this.points = points;
+        }
+
+        public List<Integer> getPositions() {
+            return positions;
+        }
+
+        public void setPositions(List<Integer> positions) {
+            this.positions = positions;
+        }
+    }
+
+    public static class FormRow {
+        private String team;
+        private int mp;
+        private int w;
+        private int d;
+        private int l;
+        private int gf;
+        private int ga;
+        private int gd;
+        private int pts;
+        private String form;
+
+        public FormRow() {
+        }
+
+        public FormRow(String team, int mp, int w, int d, int l, int gf, int ga, int gd, int pts, String form) {
+            this.team = team;
+            this.mp = mp;
+            this.w = w;
+            this.d = d;
+            this.l = l;
+            this.gf = gf;
+            this.ga = ga;
+            this.gd = gd;
+            this.pts = pts;
+            this.form = form;
+        }
+
+        public String getTeam() {
+            return team;
+        }
+
+        public void setTeam(String team) {
+            this.team = team;
+        }
+
+        public int getMp() {
+            return mp;
+        }
+
+        public void setMp(int mp) {
+            this.mp = mp;
+        }
+
+        public int getW() {
+            return w;
+        }
+
+        public void setW(int w) {
+            this.w = w;
+        }
+
+        public int getD() {
+            return d;
+        }
+
+        public void setD(int d) {
+            this.d = d;
+        }
+
+        public int getL() {
+            return l;
+        }
+
+        public void setL(int l) {
+            this.l = l;
+        }
+
+        public int getGf() {
+            return gf;
+        }
+
+        public void setGf(int gf) {
+            this.gf = gf;
+        }
+
+        public int getGa() {
+            return ga;
+        }
+
+        public void setGa(int ga) {
+            this.ga = ga;
+        }
+
+        public int getGd() {
+            return gd;
+        }
+
+        public void setGd(int gd) {
+            this.gd = gd;
+        }
+
+        public int getPts() {
+            return pts;
+        }
+
+        public void setPts(int pts) {
+            this.pts = pts;
+        }
+
+        public String getForm() {
+            return form;
+        }
+
+        public void setForm(String form) {
+            this.form = form;
+        }
+    }
+
+    public static class SimulationResult {
+        private String competition;
+        private Integer afterMatchday;
+        private int runs;
+        private int fixtures;
+        private long millis;
+        private List<TeamOdds> teams;
+
+        public SimulationResult() {
+        }
+
+        public SimulationResult(String competition, Integer afterMatchday, int runs, int fixtures, long millis, List<TeamOdds> teams) {
+            this.competition = competition;
+            this.afterMatchday = afterMatchday;
+            this.runs = runs;
+            this.fixtures = fixtures;
+            this.millis = millis;
+            this.teams = teams;
+        }
+
+        public String getCompetition() {
+            return competition;
+        }
+
+        public void setCompetition(String competition) {
+            this.competition = competition;
+        }
+
+        public Integer getAfterMatchday() {
+            return afterMatchday;
+        }
+
+        public void setAfterMatchday(Integer afterMatchday) {
+            this.afterMatchday = afterMatchday;
+        }
+
+        public int getRuns() {
+            return runs;
+        }
+
+        public void setRuns(int runs) {
+            this.runs = runs;
+        }
+
+        public int getFixtures() {
+            return fixtures;
+        }
+
+        public void setFixtures(int fixtures) {
+            this.fixtures = fixtures;
+        }
+
+        public long getMillis() {
+            return millis;
+        }
+
+        public void setMillis(long millis) {
+            this.millis = millis;
+        }
+
+        public List<TeamOdds> getTeams() {
+            return teams;
+        }
+
+        public void setTeams(List<TeamOdds> teams) {
+            this.teams = teams;
+        }
+    }
+
+    public static class TeamOdds {
+        private String team;
+        private double expectedPoints;
+        private double expectedPosition;
+        private List<Double> positions;
+
+        public TeamOdds() {
+        }
+
+        public TeamOdds(String team, double expectedPoints, double expectedPosition, List<Double> positions) {
+            this.team = team;
+            this.expectedPoints = expectedPoints;
+            this.expectedPosition = expectedPosition;
+            this.positions = positions;
+        }
+
+        public String getTeam() {
+            return team;
+        }
+
+        public void setTeam(String team) {
+            this.team = team;
+        }
+
+        public double getExpectedPoints() {
+            return expectedPoints;
+        }
+
+        public void setExpectedPoints(double expectedPoints) {
+            this.expectedPoints = expectedPoints;
+        }
+
+        public double getExpectedPosition() {
+            return expectedPosition;
+        }
+
+        public void setExpectedPosition(double expectedPosition) {
+            this.expectedPosition = expectedPosition;
+        }
+
+        public List<Double> getPositions() {
+            return positions;
+        }
+
+        public void setPositions(List<Double> positions) {
+            this.positions = positions;
+        }
+    }
+
+    public static class Prediction {
+        private String home;
+        private String away;
+        private double homeWin;
+        private double draw;
+        private double awayWin;
+        private double expectedHomeGoals;
+        private double expectedAwayGoals;
+        private String likelyScore;
+        private String result;
+
+        public Prediction() {
+        }
+
+        public Prediction(String home, String away, double homeWin, double draw, double awayWin, double expectedHomeGoals, double expectedAwayGoals, String likelyScore, String result) {
+            this.home = home;
+            this.away = away;
+            this.homeWin = homeWin;
+            this.draw = draw;
+            this.awayWin = awayWin;
+            this.expectedHomeGoals = expectedHomeGoals;
+            this.expectedAwayGoals = expectedAwayGoals;
+            this.likelyScore = likelyScore;
+            this.result = result;
+        }
+
+        public String getHome() {
+            return home;
+        }
+
+        public void setHome(String home) {
+            this.home = home;
+        }
+
+        public String getAway() {
+            return away;
+        }
+
+        public void setAway(String away) {
+            this.away = away;
+        }
+
+        public double getHomeWin() {
+            return homeWin;
+        }
+
+        public void setHomeWin(double homeWin) {
+            this.homeWin = homeWin;
+        }
+
+        public double getDraw() {
+            return draw;
+        }
+
+        public void setDraw(double draw) {
+            this.draw = draw;
+        }
+
+        public double getAwayWin() {
+            return awayWin;
+        }
+
+        public void setAwayWin(double awayWin) {
+            this.awayWin = awayWin;
+        }
+
+        public double getExpectedHomeGoals() {
+            return expectedHomeGoals;
+        }
+
+        public void setExpectedHomeGoals(double expectedHomeGoals) {
+            this.expectedHomeGoals = expectedHomeGoals;
+        }
+
+        public double getExpectedAwayGoals() {
+            return expectedAwayGoals;
+        }
+
+        public void setExpectedAwayGoals(double expectedAwayGoals) {
+            this.expectedAwayGoals = expectedAwayGoals;
+        }
+
+        public String getLikelyScore() {
+            return likelyScore;
+        }
+
+        public void setLikelyScore(String likelyScore) {
+            this.likelyScore = likelyScore;
+        }
+
+        public String getResult() {
+            return result;
+        }
+
+        public void setResult(String result) {
+            this.result = result;
+        }
+    }
+
+    public static class Scenario {
+        private String competition;
+        private Integer afterMatchday;
+        private List<ScenarioResult> results;
+
+        public Scenario() {
+        }
+
+        public Scenario(String competition, Integer afterMatchday, List<ScenarioResult> results) {
+            this.competition = competition;
+            this.afterMatchday = afterMatchday;
+            this.results = results;
+        }
+
+        public String getCompetition() {
+            return competition;
+        }
+
+        public void setCompetition(String competition) {
+            this.competition = competition;
+        }
+
+        public Integer getAfterMatchday() {
+            return afterMatchday;
+        }
+
+        public void setAfterMatchday(Integer afterMatchday) {
+            this.afterMatchday = afterMatchday;
+        }
+
+        public List<ScenarioResult> getResults() {
+            return results;
+        }
+
+        public void setResults(List<ScenarioResult> results) {
+            this.results = results;
+        }
+    }
+
+    public static class ScenarioResult {
+        private String home;
+        private String away;
+        private int homeGoals;
+        private int awayGoals;
+
+        public ScenarioResult() {
+        }
+
+        public ScenarioResult(String home, String away, int homeGoals, int awayGoals) {
+            this.home = home;
+            this.away = away;
+            this.homeGoals = homeGoals;
+            this.awayGoals = awayGoals;
+        }
+
+        public String getHome() {
+            return home;
+        }
+
+        public void setHome(String home) {
+            this.home = home;
+        }
+
+        public String getAway() {
+            return away;
+        }
+
+        public void setAway(String away) {
+            this.away = away;
+        }
+
+        public int getHomeGoals() {
+            return homeGoals;
+        }
+
+        public void setHomeGoals(int homeGoals) {
+            this.homeGoals = homeGoals;
+        }
+
+        public int getAwayGoals() {
+            return awayGoals;
+        }
+
+        public void setAwayGoals(int awayGoals) {
+            this.awayGoals = awayGoals;
+        }
+    }
+}
@@ -10,37 +10,444 @@ import org.jsoup.select.NodeTraversor;
 import org.jsoup.select.NodeVisitor;
 import org.springframework.stereotype.Service;
 
+import com.example.l1.DataVersion;
+import com.example.l1.TextNormalizer;
+import com.example.l1.team.TeamResolver;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.text.Normalizer;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class Ligue1Service {
     private static final String LIGUE_1_URL = "https://fbref.com/en/comps/13/2024-2025/2024-2025-Ligue-1-Stats";
     private static final String CSV_FILE_NAME = "football_matches_2024_2025.csv";
     private static final int TIMEOUT_MS = 20000;
-    private static final long CACHE_TTL_MS = 60L * 60L * 1000L;
+    // Fixed, like SeasonSimulator's chunk count, so a cached simulation and a recomputed one agree on any machine.
+    private static final long SIMULATION_SEED = 20240816L;
+    private static final int MAX_CACHED_SIMULATIONS = 64;
+    private static final int MAX_CACHED_SCENARIOS = 1024;
+    private static final int MAX_CACHED_MATCHDAYS = 256;
+
     private final ObjectMapper objectMapper = new ObjectMapper()
             .enable(JsonParser.Feature.ALLOW_COMMENTS)
             .enable(JsonParser.Feature.ALLOW_TRAILING_COMMA);
 
-    private volatile long matchesCacheAtMs = 0;
-    private volatile List<CsvMatch> matchesCache = null;
+    private final TeamResolver teamResolver;
+    private final DataVersion dataVersion;
+    private final Map<String, CompletableFuture<Ligue1Controller.SimulationResult>> simulations = new ConcurrentHashMap<>();
+    private final Map<String, byte[]> scenarios = new ConcurrentHashMap<>();
+    private final Map<String, List<Ligue1Controller.Prediction>> matchdayPredictions = new ConcurrentHashMap<>();
+
+    // Replaced wholesale on reload; readers only ever dereference it.
+    private volatile MatchSnapshot snapshot;
+
+    public Ligue1Service(TeamResolver teamResolver, DataVersion dataVersion) {
+        this.teamResolver = teamResolver;
+        this.dataVersion = dataVersion;
+    }
+
+    /** Standings of one competition (e.g. "FL1", "PL"), or null when the CSV has none of its matches. */
+    public Ligue1Controller.StandingsResponse getStandings(String competition) {
+        Competition table = snapshot().competitions.get(competition);
+        return table == null ? null : table.standings;
+    }
+
+    public byte[] getStandingsJson(String competition) {
+        Competition table = snapshot().competitions.get(competition);
+        return table == null ? null : table.standingsJson;
+    }
+
+    /**
+     * Standings for one view of the table: overall, home, away, halftime, secondhalf, last5 or month;
+     * {@code month} (yyyy-MM) is required for the "month" view. Null when the competition is unknown or
+     * the month has no matches; throws IllegalArgumentException for an unknown view or a missing month.
+     */
+    public Ligue1Controller.StandingsResponse getStandingsView(String competition, String view, String month) {
+        Competition table = snapshot().competitions.get(competition);
+        if (table == null) {
+            return null;
+        }
+        if (TableViews.OVERALL.equals(view)) {
+            return table.standings;
+        }
+        if (isEmptyMonth(table, view, month)) {
+            return null;
+        }
+        TeamTable[] homeAway = viewTables(table, view, month);
+        return renderStandings(table.matches, table.history.sortKeys(), homeAway[0].plus(homeAway[1]), homeAway[0], homeAway[1]);
+    }
+
+    /** {@link #getStandingsView} as JSON, kept per view for the life of the data version. */
+    public byte[] getStandingsJsonView(String competition, String view, String month) {
+        Competition table = snapshot().competitions.get(competition);
+        if (table == null) {
+            return null;
+        }
+        if (TableViews.OVERALL.equals(view)) {
+            return table.standingsJson;
+        }
+        if (isEmptyMonth(table, view, month)) {
+            return null;
+        }
+        TeamTable[] homeAway = viewTables(table, view, month);
+        String key = TableViews.MONTH.equals(view) ? view + "|" + month : view;
+        byte[] cached = table.viewJson.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] json = toJson(renderStandings(table.matches, table.history.sortKeys(),
+                homeAway[0].plus(homeAway[1]), homeAway[0], homeAway[1]));
+        table.viewJson.putIfAbsent(key, json);
+        return json;
+    }
+
+    /**
+     * Standings counting only matches up to a matchday, or played on or before a date (days since the
+     * epoch); null when the competition is unknown.
+     */
+    public Ligue1Controller.StandingsResponse getStandingsAt(String competition, Integer matchday, Integer epochDay) {
+        Competition table = snapshot().competitions.get(competition);
+        if (table == null) {
+            return null;
+        }
+        TeamTable[] homeAway = matchday != null
+                ? table.history.afterMatchday(matchday)
+                : table.history.onDate(epochDay);
+        TeamTable overall = homeAway[0].plus(homeAway[1]);
+        return renderStandings(table.matches, table.history.sortKeys(), overall, homeAway[0], homeAway[1]);
+    }
+
+    /** {@link #getStandingsView} in the columnar shape, read straight from the view's counters. */
+    public Ligue1Controller.ColumnarStandings getColumnarStandingsView(String competition, String view, String month) {
+        Competition table = snapshot().competitions.get(competition);
+        if (table == null || isEmptyMonth(table, view, month)) {
+            return null;
+        }
+        TeamTable[] homeAway = TableViews.OVERALL.equals(view)
+                ? new TeamTable[]{table.homeStats, table.awayStats}
+                : viewTables(table, view, month);
+        return ColumnarFormat.of(table.matches, table.history.sortKeys(),
+                homeAway[0].plus(homeAway[1]), homeAway[0], homeAway[1]);
+    }
+
+    /** {@link #getStandingsAt} in the columnar shape. */
+    public Ligue1Controller.ColumnarStandings getColumnarStandingsAt(String competition, Integer matchday, Integer epochDay) {
+        Competition table = snapshot().competitions.get(competition);
+        if (table == null) {
+            return null;
+        }
+        TeamTable[] homeAway = matchday != null
+                ? table.history.afterMatchday(matchday)
+                : table.history.onDate(epochDay);
+        return ColumnarFormat.of(table.matches, table.history.sortKeys(),
+                homeAway[0].plus(homeAway[1]), homeAway[0], homeAway[1]);
+    }
+
+    public byte[] getStandingsJsonAt(String competition, Integer matchday, Integer epochDay) {
+        Ligue1Controller.StandingsResponse standings = getStandingsAt(competition, matchday, epochDay);
+        return standings == null ? null : toJson(standings);
+    }
+
+    /**
+     * Points and position after every matchday for one team, or for every team when {@code team} is
+     * null; null when the competition is unknown.
+     */
+    public List<Ligue1Controller.TeamProgression> getProgression(String competition, String team) {
+        Competition table = snapshot().competitions.get(competition);
+        if (table == null) {
+            return null;
+        }
+        List<Ligue1Controller.TeamProgression> out = new ArrayList<>();
+        if (team != null) {
+            int id = table.matches.teamId(teamResolver.canonicalName(team));
+            if (id >= 0 && table.matches.hasResults(id)) {
+                out.add(progression(table, id));
+            }
+            return out;
+        }
+        for (int t = 0; t < table.matches.teamCount(); t++) {
+            if (table.matches.hasResults(t)) {
+                out.add(progression(table, t));
+            }
+        }
+        return out;
+    }
+
+    private Ligue1Controller.TeamProgression progression(Competition table, int team) {
+        int[] matchdays = table.history.matchdays();
+        List<Integer> days = new ArrayList<>(matchdays.length);
+        List<Integer> points = new ArrayList<>(matchdays.length);
+        List<Integer> positions = new ArrayList<>(matchdays.length);
+        for (int i = 0; i < matchdays.length; i++) {
+            days.add(matchdays[i]);
+            points.add(table.history.pointsAfter(i, team));
+            positions.add(table.history.positionAfter(i, team));
+        }
+        return new Ligue1Controller.TeamProgression(table.matches.team(team), days, points, positions);
+    }
+
+    /**
+     * Form over the last {@code n} matches for one team, or the whole competition ranked by it when
+     * {@code team} is null; null when the competition is unknown.
+     */
+    public List<Ligue1Controller.FormRow> getForm(String competition, String team, int n) {
+        Competition table = snapshot().competitions.get(competition);
+        if (table == null) {
+            return null;
+        }
+        if (team == null) {
+            return table.form.table(n);
+        }
+        List<Ligue1Controller.FormRow> out = new ArrayList<>();
+        int id = table.matches.teamId(teamResolver.canonicalName(team));
+        if (id >= 0) {
+            out.add(table.form.row(id, n));
+        }
+        return out;
+    }
+
+    /**
+     * Finishing-position odds from {@code runs} simulated seasons, cached per data version; null when
+     * the competition is unknown. {@code afterMatchday} replays every result after that matchday too.
+     */
+    public Ligue1Controller.SimulationResult simulate(String competition, Integer afterMatchday, int runs) {
+        MatchSnapshot current = snapshot();
+        Competition table = current.competitions.get(competition);
+        if (table == null) {
+            return null;
+        }
+        String prefix = current.version + ":";
+        String key = prefix + competition + ":" + afterMatchday + ":" + runs;
+        simulations.keySet().removeIf(k -> !k.startsWith(prefix));
+        if (simulations.size() >= MAX_CACHED_SIMULATIONS) {
+            simulations.clear();
+        }
+
+        // Concurrent callers with the same parameters wait on one simulation.
+        CompletableFuture<Ligue1Controller.SimulationResult> created = new CompletableFuture<>();
+        CompletableFuture<Ligue1Controller.SimulationResult> existing = simulations.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing.join();
+        }
+        try {
+            SeasonSimulator simulator = new SeasonSimulator(table.matches, table.history.sortKeys(), afterMatchday);
+            created.complete(simulator.simulate(competition, afterMatchday, runs, SIMULATION_SEED));
+        } catch (RuntimeException e) {
+            simulations.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created.join();
+    }
+
+    /** Prediction for {@code home} hosting {@code away}; null when the competition or either team is unknown. */
+    public Ligue1Controller.Prediction predict(String competition, String home, String away) {
+        Competition table = snapshot().competitions.get(competition);
+        if (table == null) {
+            return null;
+        }
+        int homeId = table.matches.teamId(teamResolver.canonicalName(home));
+        int awayId = table.matches.teamId(teamResolver.canonicalName(away));
+        if (homeId < 0 || awayId < 0) {
+            return null;
+        }
+        return table.predictor.predict(table.matches, homeId, awayId);
+    }
+
+    /**
+     * Predictions for every match of one matchday, played or not, from a model trained only on earlier
+     * matchdays; played matches carry their actual result. Cached per data version, since each one
+     * trains its own model. Null when the competition is unknown.
+     */
+    public List<Ligue1Controller.Prediction> predictMatchday(String competition, int matchday) {
+        MatchSnapshot current = snapshot();
+        Competition table = current.competitions.get(competition);
+        if (table == null) {
+            return null;
+        }
+        String prefix = current.version + ":";
+        String key = prefix + competition + ":" + matchday;
+        matchdayPredictions.keySet().removeIf(k -> !k.startsWith(prefix));
+        List<Ligue1Controller.Prediction> cached = matchdayPredictions.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        MatchStore matches = table.matches;
+        MatchPredictor before = MatchPredictor.train(matches, m -> matches.matchday(m) > 0 && matches.matchday(m) < matchday);
+        List<Ligue1Controller.Prediction> out = new ArrayList<>();
+        for (int m = 0; m < matches.size(); m++) {
+            if (matches.matchday(m) == matchday) {
+                Ligue1Controller.Prediction prediction = before.predict(matches, matches.home(m), matches.away(m));
+                prediction.setResult(matches.homeGoals(m) + "-" + matches.awayGoals(m));
+                out.add(prediction);
+            }
+        }
+        for (int f = 0; f < matches.fixtureCount(); f++) {
+            if (matches.fixtureMatchday(f) == matchday) {
+                out.add(before.predict(matches, matches.fixtureHome(f), matches.fixtureAway(f)));
+            }
+        }
+        List<Ligue1Controller.Prediction> predictions = Collections.unmodifiableList(out);
+        if (matchdayPredictions.size() >= MAX_CACHED_MATCHDAYS) {
+            matchdayPredictions.clear();
+        }
+        matchdayPredictions.put(key, predictions);
+        return predictions;
+    }
+
+    /**
+     * Standings JSON after applying hypothetical scores to unplayed matches, on top of the current
+     * table or of the table after {@code afterMatchday} (whose later matches then count as unplayed).
+     * Cached per data version and scenario; null when the competition is unknown.
+     *
+     * @throws IllegalArgumentException when a result names an unknown team or a match that is not open
+     */
+    public byte[] getScenarioStandingsJson(String competition, Integer afterMatchday, List<Ligue1Controller.ScenarioResult> results) {
+        MatchSnapshot current = snapshot();
+        Competition table = current.competitions.get(competition);
+        if (table == null) {
+            return null;
+        }
+        MatchStore matches = table.matches;
+        int teams = matches.teamCount();
+        int[][] resolved = new int[results.size()][];
+        for (int i = 0; i < resolved.length; i++) {
+            Ligue1Controller.ScenarioResult result = results.get(i);
+            int home = matches.teamId(teamResolver.canonicalName(result.getHome()));
+            int away = matches.teamId(teamResolver.canonicalName(result.getAway()));
+            if (home < 0 || away < 0 || home == away) {
+                throw new IllegalArgumentException("Unknown match: " + result.getHome() + " v " + result.getAway());
+            }
+            if (result.getHomeGoals() < 0 || result.getAwayGoals() < 0) {
+                throw new IllegalArgumentException("Goals must be >= 0");
+            }
+            resolved[i] = new int[]{home, away, result.getHomeGoals(), result.getAwayGoals()};
+        }
+
+        // Canonical form, so the same results in any order and spelling share a cache entry.
+        int[][] sorted = resolved.clone();
+        Arrays.sort(sorted, (a, b) -> a[0] != b[0] ? Integer.compare(a[0], b[0]) : Integer.compare(a[1], b[1]));
+        StringBuilder key = new StringBuilder().append(current.version).append(':').append(competition)
+                .append(':').append(afterMatchday);
+        for (int[] r : sorted) {
+            key.append(';').append(r[0]).append('-').append(r[1]).append('=').append(r[2]).append('-').append(r[3]);
+        }
+        String prefix = current.version + ":";
+        scenarios.keySet().removeIf(k -> !k.startsWith(prefix));
+        byte[] cached = scenarios.get(key.toString());
+        if (cached != null) {
+            return cached;
+        }
+
+        // Each home/away pairing may be set as often as it is still open.
+        int[] open = new int[teams * teams];
+        for (int f = 0; f < matches.fixtureCount(); f++) {
+            open[matches.fixtureHome(f) * teams + matches.fixtureAway(f)]++;
+        }
+        if (afterMatchday != null) {
+            for (int m = 0; m < matches.size(); m++) {
+                if (matches.matchday(m) > afterMatchday) {
+                    open[matches.home(m) * teams + matches.away(m)]++;
+                }
+            }
+        }
+        TeamTable[] base = afterMatchday == null
+                ? new TeamTable[]{table.homeStats, table.awayStats}
+                : table.history.afterMatchday(afterMatchday);
+        TeamTable homeStats = base[0].copy();
+        TeamTable awayStats = base[1].copy();
+        for (int[] r : resolved) {
+            if (--open[r[0] * teams + r[1]] < 0) {
+                throw new IllegalArgumentException("Not an unplayed match: " + matches.team(r[0]) + " v " + matches.team(r[1]));
+            }
+            homeStats.apply(r[0], r[2], r[3]);
+            awayStats.apply(r[1], r[3], r[2]);
+        }
+        byte[] json = toJson(renderStandings(matches, table.history.sortKeys(),
+                homeStats.plus(awayStats), homeStats, awayStats));
+        if (scenarios.size() >= MAX_CACHED_SCENARIOS) {
+            scenarios.clear();
+        }
+        scenarios.put(key.toString(), json);
+        return json;
+    }
+
+    public boolean resolvesToSameTeam(String first, String second) {
+        int id = teamResolver.resolve(first);
+        return id >= 0 && id == teamResolver.resolve(second);
+    }
 
-    public Ligue1Controller.StandingsResponse getStandings() {
-        return getStandingsFromCsv();
+    public Set<String> getCompetitions() {
+        return snapshot().competitions.keySet();
     }
 
-    public List<Ligue1Controller.H2HRow> getHeadToHead(String team) {
-        return getHeadToHeadFromCsv(team);
+    public Path getCsvPath() {
+        return findCsvFile();
+    }
+
+    public synchronized Ligue1Controller.ReloadResult reload() {
+        long start = System.nanoTime();
+        return load(parseCsvMatches(), start);
+    }
+
+    // Publishes a snapshot built from parsed stores; tests call it with stores of their own.
+    synchronized Ligue1Controller.ReloadResult load(Map<String, MatchStore> stores, long start) {
+        Map<String, Competition> previous = snapshot == null ? Collections.emptyMap() : snapshot.competitions;
+        // Competitions are independent, so each one's tables are built on its own core.
+        Map<String, Competition> competitions = stores.entrySet().parallelStream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> buildCompetition(e.getValue(), previous.get(e.getKey()))));
+        int matches = 0;
+        for (MatchStore store : stores.values()) {
+            matches += store.size();
+        }
+        long version = snapshot == null ? 1 : snapshot.version + 1;
+        snapshot = new MatchSnapshot(version, Collections.unmodifiableMap(new TreeMap<>(competitions)));
+        dataVersion.bump(DataVersion.Scope.MATCHES);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        System.out.println("Loaded " + matches + " matches across " + competitions.size() + " competitions in " + millis + " ms");
+        return new Ligue1Controller.ReloadResult(matches, version, millis);
+    }
+
+    /** Head-to-head rows within one competition, or null when the CSV has none of its matches. */
+    public List<Ligue1Controller.H2HRow> getHeadToHead(String competition, String team) {
+        Competition table = snapshot().competitions.get(competition);
+        if (table == null) {
+            return null;
+        }
+        int id = teamResolver.resolve(team);
+        if (id < 0) {
+            // Not one known team: keep the substring match, which may select several teams.
+            return table.headToHead.rows(team);
+        }
+        return table.headToHead.rows(table.matches.teamId(teamResolver.name(id)));
+    }
+
+    private Competition buildCompetition(MatchStore matches, Competition previous) {
+        String[] sortKeys = sortKeys(matches);
+        TableViews views = new TableViews(matches);
+        TeamTable[] venues = views.tables(TableViews.OVERALL, null);
+        Ligue1Controller.StandingsResponse standings =
+                renderStandings(matches, sortKeys, venues[0].plus(venues[1]), venues[0], venues[1]);
+        // The predictor and form buffers only need the new results when the file grew by appending.
+        MatchPredictor predictor = previous == null
+                ? MatchPredictor.train(matches, m -> true)
+                : previous.predictor.extendTo(previous.matches, matches);
+        FormTable form = previous == null
+                ? new FormTable(matches, sortKeys)
+                : previous.form.extendTo(matches, sortKeys);
+        byte[] json = toJson(standings);
+        return new Competition(matches, new HeadToHead(matches), new StandingsHistory(matches, sortKeys),
+                form, predictor, views, venues[0], venues[1], standings, json);
     }
 
     private Document fetch(String url) {
@@ -69,52 +476,51 @@ public class Ligue1Service {
         }
     }
 
-    private Ligue1Controller.StandingsResponse getStandingsFromCsv() {
-        List<CsvMatch> matches = getCsvMatches();
-
-        Map<String, TeamAggregate> byTeam = new HashMap<>();
-        for (CsvMatch match : matches) {
-            if (match == null) {
-                continue;
-            }
-            String home = match.homeTeam;
-            String away = match.awayTeam;
-            if (home == null || away == null) {
-                continue;
-            }
-
-            TeamAggregate homeAgg = byTeam.computeIfAbsent(home, t -> new TeamAggregate());
-            TeamAggregate awayAgg = byTeam.computeIfAbsent(away, t -> new TeamAggregate());
+    private static boolean isEmptyMonth(Competition table, String view, String month) {
+        return TableViews.MONTH.equals(view) && month != null && !table.views.hasMonth(month);
+    }
 
-            homeAgg.overall.applyMatch(match.homeGoals, match.awayGoals);
-            awayAgg.overall.applyMatch(match.awayGoals, match.homeGoals);
+    // Home and away records over every finished match; their sum is the overall table.
+    private TeamTable[] viewTables(Competition table, String view, String month) {
+        TeamTable[] homeAway = table.views.tables(view, month);
+        if (homeAway == null) {
+            throw new IllegalArgumentException(TableViews.MONTH.equals(view)
+                    ? "month (yyyy-MM) is required for view=month"
+                    : "Unknown view: " + view + ", expected one of " + table.views.names());
+        }
+        return homeAway;
+    }
 
-            homeAgg.home.applyMatch(match.homeGoals, match.awayGoals);
-            awayAgg.away.applyMatch(match.awayGoals, match.homeGoals);
+    private byte[] toJson(Ligue1Controller.StandingsResponse standings) {
+        try {
+            return objectMapper.writeValueAsBytes(standings);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialise standings", e);
         }
+    }
 
-        List<Map.Entry<String, TeamAggregate>> entries = new ArrayList<>(byTeam.entrySet());
-        entries.sort((a, b) -> compareTeamAgg(a.getKey(), a.getValue().overall, b.getKey(), b.getValue().overall));
+    static Ligue1Controller.StandingsResponse renderStandings(MatchStore matches, String[] sortKeys,
+                                                              TeamTable overallStats, TeamTable homeStats, TeamTable awayStats) {
+        int[] order = matches.playedOnly(overallStats.ranking(sortKeys), overallStats);
 
         List<String> overallColumns = Arrays.asList("Rk", "Squad", "MP", "W", "D", "L", "GF", "GA", "GD", "Pts", "Pts/MP");
         List<Ligue1Controller.Row> overallRows = new ArrayList<>();
         int rk = 1;
-        for (Map.Entry<String, TeamAggregate> e : entries) {
-            String team = e.getKey();
-            TeamAggregate agg = e.getValue();
+        for (int t : order) {
+            TeamTable o = overallStats;
             Map<String, String> values = new LinkedHashMap<>();
             values.put("Rk", String.valueOf(rk));
-            values.put("Squad", team);
-            values.put("MP", String.valueOf(agg.overall.mp));
-            values.put("W", String.valueOf(agg.overall.w));
-            values.put("D", String.valueOf(agg.overall.d));
-            values.put("L", String.valueOf(agg.overall.l));
-            values.put("GF", String.valueOf(agg.overall.gf));
-            values.put("GA", String.valueOf(agg.overall.ga));
-            values.put("GD", String.valueOf(agg.overall.gf - agg.overall.ga));
-            values.put("Pts", String.valueOf(agg.overall.pts));
-            values.put("Pts/MP", agg.overall.mp == 0 ? "" : String.format(Locale.ROOT, "%.2f", ((double) agg.overall.pts) / agg.overall.mp));
-            overallRows.add(new Ligue1Controller.Row(values));
+            values.put("Squad", matches.team(t));
+            values.put("MP", String.valueOf(o.mp[t]));
+            values.put("W", String.valueOf(o.w[t]));
+            values.put("D", String.valueOf(o.d[t]));
+            values.put("L", String.valueOf(o.l[t]));
+            values.put("GF", String.valueOf(o.gf[t]));
+            values.put("GA", String.valueOf(o.ga[t]));
+            values.put("GD", String.valueOf(o.gf[t] - o.ga[t]));
+            values.put("Pts", String.valueOf(o.pts[t]));
+            values.put("Pts/MP", o.mp[t] == 0 ? "" : String.format(Locale.ROOT, "%.2f", ((double) o.pts[t]) / o.mp[t]));
+            overallRows.add(new Ligue1Controller.Row(Collections.unmodifiableMap(values)));
             rk++;
         }
 
@@ -125,204 +531,86 @@ public class Ligue1Service {
         );
         List<Ligue1Controller.Row> homeAwayRows = new ArrayList<>();
         rk = 1;
-        for (Map.Entry<String, TeamAggregate> e : entries) {
-            String team = e.getKey();
-            TeamAggregate agg = e.getValue();
+        for (int t : order) {
+            TeamTable h = homeStats;
+            TeamTable a = awayStats;
             Map<String, String> values = new LinkedHashMap<>();
             values.put("Rk", String.valueOf(rk));
-            values.put("Squad", team);
-            values.put("Home MP", String.valueOf(agg.home.mp));
-            values.put("Home W", String.valueOf(agg.home.w));
-            values.put("Home D", String.valueOf(agg.home.d));
-            values.put("Home L", String.valueOf(agg.home.l));
-            values.put("Home GF", String.valueOf(agg.home.gf));
-            values.put("Home GA", String.valueOf(agg.home.ga));
-            values.put("Home GD", String.valueOf(agg.home.gf - agg.home.ga));
-            values.put("Home Pts", String.valueOf(agg.home.pts));
-            values.put("Away MP", String.valueOf(agg.away.mp));
-            values.put("Away W", String.valueOf(agg.away.w));
-            values.put("Away D", String.valueOf(agg.away.d));
-            values.put("Away L", String.valueOf(agg.away.l));
-            values.put("Away GF", String.valueOf(agg.away.gf));
-            values.put("Away GA", String.valueOf(agg.away.ga));
-            values.put("Away GD", String.valueOf(agg.away.gf - agg.away.ga));
-            values.put("Away Pts", String.valueOf(agg.away.pts));
-            homeAwayRows.add(new Ligue1Controller.Row(values));
+            values.put("Squad", matches.team(t));
+            values.put("Home MP", String.valueOf(h.mp[t]));
+            values.put("Home W", String.valueOf(h.w[t]));
+            values.put("Home D", String.valueOf(h.d[t]));
+            values.put("Home L", String.valueOf(h.l[t]));
+            values.put("Home GF", String.valueOf(h.gf[t]));
+            values.put("Home GA", String.valueOf(h.ga[t]));
+            values.put("Home GD", String.valueOf(h.gf[t] - h.ga[t]));
+            values.put("Home Pts", String.valueOf(h.pts[t]));
+            values.put("Away MP", String.valueOf(a.mp[t]));
+            values.put("Away W", String.valueOf(a.w[t]));
+            values.put("Away D", String.valueOf(a.d[t]));
+            values.put("Away L", String.valueOf(a.l[t]));
+            values.put("Away GF", String.valueOf(a.gf[t]));
+            values.put("Away GA", String.valueOf(a.ga[t]));
+            values.put("Away GD", String.valueOf(a.gf[t] - a.ga[t]));
+            values.put("Away Pts", String.valueOf(a.pts[t]));
+            homeAwayRows.add(new Ligue1Controller.Row(Collections.unmodifiableMap(values)));
             rk++;
         }
 
-        Ligue1Controller.LeagueTable overall = new Ligue1Controller.LeagueTable(overallColumns, overallRows);
-        Ligue1Controller.LeagueTable homeAway = new Ligue1Controller.LeagueTable(homeAwayColumns, homeAwayRows);
+        Ligue1Controller.LeagueTable overall = new Ligue1Controller.LeagueTable(overallColumns, Collections.unmodifiableList(overallRows));
+        Ligue1Controller.LeagueTable homeAway = new Ligue1Controller.LeagueTable(homeAwayColumns, Collections.unmodifiableList(homeAwayRows));
         return new Ligue1Controller.StandingsResponse(overall, homeAway);
     }
 
-    private List<Ligue1Controller.H2HRow> getHeadToHeadFromCsv(String team) {
-        List<CsvMatch> matches = getCsvMatches();
-        String wanted = normalize(team);
-
-        Map<String, Aggregation> byOpponent = new HashMap<>();
-        for (CsvMatch match : matches) {
-            if (match == null) {
-                continue;
-            }
-            String t1 = match.homeTeam;
-            String t2 = match.awayTeam;
-            if (t1 == null || t2 == null) {
-                continue;
-            }
-
-            boolean isHome = isSameTeam(wanted, t1);
-            boolean isAway = isSameTeam(wanted, t2);
-            if (!isHome && !isAway) {
-                continue;
-            }
-
-            String opponent = isHome ? t2 : t1;
-            int gf = isHome ? match.homeGoals : match.awayGoals;
-            int ga = isHome ? match.awayGoals : match.homeGoals;
-            Outcome outcome = outcomeFrom(null, gf, ga);
-
-            Aggregation agg = byOpponent.computeIfAbsent(opponent, k -> new Aggregation());
-            agg.mp++;
-            agg.gf += gf;
-            agg.ga += ga;
-            if (outcome == Outcome.W) {
-                agg.w++;
-                agg.pts += 3;
-            } else if (outcome == Outcome.D) {
-                agg.d++;
-                agg.pts += 1;
-            } else {
-                agg.l++;
-            }
-        }
-
-        List<Ligue1Controller.H2HRow> out = new ArrayList<>();
-        for (Map.Entry<String, Aggregation> e : byOpponent.entrySet()) {
-            Aggregation a = e.getValue();
-            out.add(new Ligue1Controller.H2HRow(
-                    e.getKey(),
-                    a.mp,
-                    a.w,
-                    a.d,
-                    a.l,
-                    a.gf,
-                    a.ga,
-                    a.gf - a.ga,
-                    a.pts
-            ));
-        }
-        out.sort((a, b) -> {
-            int byPts = Integer.compare(b.getPts(), a.getPts());
-            if (byPts != 0) return byPts;
-            int byGd = Integer.compare(b.getGd(), a.getGd());
-            if (byGd != 0) return byGd;
-            int byGf = Integer.compare(b.getGf(), a.getGf());
-            if (byGf != 0) return byGf;
-            return normalize(a.getOpponent()).compareTo(normalize(b.getOpponent()));
-        });
-        return out;
-    }
-
-    private int compareTeamAgg(String nameA, TeamStats a, String nameB, TeamStats b) {
-        int byPts = Integer.compare(b.pts, a.pts);
-        if (byPts != 0) return byPts;
-        int gdA = a.gf - a.ga;
-        int gdB = b.gf - b.ga;
-        int byGd = Integer.compare(gdB, gdA);
-        if (byGd != 0) return byGd;
-        int byGf = Integer.compare(b.gf, a.gf);
-        if (byGf != 0) return byGf;
-        return normalize(nameA).compareTo(normalize(nameB));
+    private String[] sortKeys(MatchStore matches) {
+        String[] keys = new String[matches.teamCount()];
+        for (int t = 0; t < keys.length; t++) {
+            keys[t] = normalize(matches.team(t));
+        }
+        return keys;
     }
 
-    private List<CsvMatch> getCsvMatches() {
-        long now = System.currentTimeMillis();
-        List<CsvMatch> cached = matchesCache;
-        if (cached != null && (now - matchesCacheAtMs) < CACHE_TTL_MS) {
-            return cached;
+    private MatchSnapshot snapshot() {
+        MatchSnapshot current = snapshot;
+        if (current != null) {
+            return current;
         }
         synchronized (this) {
-            now = System.currentTimeMillis();
-            cached = matchesCache;
-            if (cached != null && (now - matchesCacheAtMs) < CACHE_TTL_MS) {
-                return cached;
+            if (snapshot == null) {
+                reload();
             }
-
-            List<CsvMatch> matches = parseCsvMatches();
-            matchesCache = matches;
-            matchesCacheAtMs = now;
-            return matches;
+            return snapshot;
         }
     }
 
-    private List<CsvMatch> parseCsvMatches() {
-        List<CsvMatch> out = new ArrayList<>();
-        
-        try {
-            Path csvPath = findCsvFile();
-            if (csvPath == null) {
-                System.err.println("CSV file not found: " + CSV_FILE_NAME);
-                return out;
-            }
-            
-            try (BufferedReader reader = Files.newBufferedReader(csvPath, StandardCharsets.UTF_8)) {
-                String headerLine = reader.readLine();
-                if (headerLine == null) {
-                    return out;
-                }
-                
-                String[] headers = parseCsvLine(headerLine);
-                int compCodeIdx = findColumnIndex(headers, "competition_code");
-                int homeTeamIdx = findColumnIndex(headers, "home_team");
-                int awayTeamIdx = findColumnIndex(headers, "away_team");
-                int homeGoalsIdx = findColumnIndex(headers, "fulltime_home");
-                int awayGoalsIdx = findColumnIndex(headers, "fulltime_away");
-                int statusIdx = findColumnIndex(headers, "status");
-                
-                if (compCodeIdx < 0 || homeTeamIdx < 0 || awayTeamIdx < 0 || homeGoalsIdx < 0 || awayGoalsIdx < 0) {
-                    System.err.println("Required columns not found in CSV");
-                    return out;
-                }
-                
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    String[] values = parseCsvLine(line);
-                    if (values.length <= Math.max(Math.max(compCodeIdx, homeTeamIdx), Math.max(awayTeamIdx, Math.max(homeGoalsIdx, awayGoalsIdx)))) {
-                        continue;
-                    }
-                    
-                    String compCode = values[compCodeIdx];
-                    if (!"FL1".equals(compCode)) {
-                        continue;
-                    }
-                    
-                    if (statusIdx >= 0 && statusIdx < values.length) {
-                        String status = values[statusIdx];
-                        if (!"FINISHED".equals(status)) {
-                            continue;
-                        }
-                    }
-                    
-                    String homeTeam = cleanTeamName(values[homeTeamIdx]);
-                    String awayTeam = cleanTeamName(values[awayTeamIdx]);
-                    
-                    try {
-                        int homeGoals = Integer.parseInt(values[homeGoalsIdx].trim());
-                        int awayGoals = Integer.parseInt(values[awayGoalsIdx].trim());
-                        out.add(new CsvMatch(homeTeam, awayTeam, homeGoals, awayGoals));
-                    } catch (NumberFormatException e) {
-                        // Skip matches with invalid scores
-                    }
-                }
+    // One pass over the file, routing each finished match and each unplayed fixture into its competition's store.
+    private Map<String, MatchStore> parseCsvMatches() {
+        Map<String, MatchStore.Builder> builders = new HashMap<>();
+        Function<String, String> displayName = name -> teamResolver.name(teamResolver.register(name));
+
+        Path csvPath = findCsvFile();
+        if (csvPath == null) {
+            System.err.println("CSV file not found: " + CSV_FILE_NAME);
+        } else {
+            try {
+                new MatchCsvParser(null, "FINISHED").parse(csvPath,
+                        (competition, home, away, hg, ag, hth, hta, matchday, date) ->
+                                builders.computeIfAbsent(competition, c -> new MatchStore.Builder(displayName))
+                                        .add(home, away, hg, ag, hth, hta, matchday, date),
+                        (competition, home, away, matchday, date) ->
+                                builders.computeIfAbsent(competition, c -> new MatchStore.Builder(displayName))
+                                        .addFixture(home, away, matchday));
+            } catch (IOException e) {
+                System.err.println("Error reading CSV file: " + e.getMessage());
             }
-        } catch (IOException e) {
-            System.err.println("Error reading CSV file: " + e.getMessage());
         }
-        
+        Map<String, MatchStore> out = new HashMap<>();
+        for (Map.Entry<String, MatchStore.Builder> e : builders.entrySet()) {
+            out.put(e.getKey(), e.getValue().build());
+        }
         return out;
     }
-    
+
     private Path findCsvFile() {
         // Try absolute path first (project root)
         Path absolutePath = Paths.get("c:/Users/Saad/Desktop/PLWebsite-main/" + CSV_FILE_NAME);
@@ -360,75 +648,6 @@ public class Ligue1Service {
         
         return null;
     }
-    
-    private int findColumnIndex(String[] headers, String columnName) {
-        for (int i = 0; i < headers.length; i++) {
-            if (columnName.equalsIgnoreCase(headers[i].trim())) {
-                return i;
-            }
-        }
-        return -1;
-    }
-    
-    private String[] parseCsvLine(String line) {
-        List<String> values = new ArrayList<>();
-        StringBuilder current = new StringBuilder();
-        boolean inQuotes = false;
-        
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-            if (c == '"') {
-                inQuotes = !inQuotes;
-            } else if (c == ',' && !inQuotes) {
-                values.add(current.toString());
-                current = new StringBuilder();
-            } else {
-                current.append(c);
-            }
-        }
-        values.add(current.toString());
-        
-        return values.toArray(new String[0]);
-    }
-    
-    private String cleanTeamName(String name) {
-        if (name == null) return null;
-        String cleaned = name.trim();
-        
-        // Map full CSV names to display names used in frontend
-        Map<String, String> teamNameMap = new HashMap<>();
-        teamNameMap.put("Paris Saint-Germain FC", "Paris Saint-Germain");
-        teamNameMap.put("Olympique de Marseille", "Marseille");
-        teamNameMap.put("AS Monaco FC", "Monaco");
-        teamNameMap.put("OGC Nice", "Nice");
-        teamNameMap.put("Lille OSC", "Lille");
-        teamNameMap.put("Olympique Lyonnais", "Lyon");
-        teamNameMap.put("RC Strasbourg Alsace", "Strasbourg");
-        teamNameMap.put("Racing Club de Lens", "Lens");
-        teamNameMap.put("Stade Brestois 29", "Brest");
-        teamNameMap.put("Toulouse FC", "Toulouse");
-        teamNameMap.put("AJ Auxerre", "Auxerre");
-        teamNameMap.put("Stade Rennais FC 1901", "Rennes");
-        teamNameMap.put("FC Nantes", "Nantes");
-        teamNameMap.put("Angers SCO", "Angers");
-        teamNameMap.put("Le Havre AC", "Le Havre");
-        teamNameMap.put("Stade de Reims", "Reims");
-        teamNameMap.put("AS Saint-Étienne", "Saint-Etienne");
-        teamNameMap.put("Montpellier HSC", "Montpellier");
-        
-        if (teamNameMap.containsKey(cleaned)) {
-            return teamNameMap.get(cleaned);
-        }
-        
-        // Fallback: basic cleanup
-        return cleaned
-            .replace(" FC", "")
-            .replace(" AC", "")
-            .replace(" HSC", "")
-            .replace(" OSC", "")
-            .replace(" SCO", "")
-            .trim();
-    }
 
     private List<Element> collectTables(Document doc) {
         List<Element> tables = new ArrayList<>(doc.select("table"));
@@ -678,109 +897,47 @@ public class Ligue1Service {
     }
 
     private String normalize(String s) {
-        if (s == null) {
-            return "";
-        }
-        String noAccents = Normalizer.normalize(s, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
-        return noAccents
-                .toLowerCase(Locale.ROOT)
-                .replace("&", "and")
-                .replaceAll("[^a-z0-9]+", "");
-    }
-
-    private boolean isSameTeam(String normalizedWanted, String teamName) {
-        if (normalizedWanted == null) {
-            normalizedWanted = "";
-        }
-        if (normalizedWanted.isEmpty()) {
-            return false;
+        return TextNormalizer.normalize(s);
+    }
+
+    private static final class MatchSnapshot {
+        final long version;
+        final Map<String, Competition> competitions;
+
+        MatchSnapshot(long version, Map<String, Competition> competitions) {
+            this.version = version;
+            this.competitions = competitions;
+        }
+    }
+
+    private static final class Competition {
+        final MatchStore matches;
+        final HeadToHead headToHead;
+        final StandingsHistory history;
+        final FormTable form;
+        final MatchPredictor predictor;
+        final TableViews views;
+        // Rendered lazily per view (and month); dropped with the snapshot when the data changes.
+        final Map<String, byte[]> viewJson = new ConcurrentHashMap<>();
+        // Never mutated: scenarios copy them before applying hypothetical results.
+        final TeamTable homeStats;
+        final TeamTable awayStats;
+        final Ligue1Controller.StandingsResponse standings;
+        final byte[] standingsJson;
+
+        Competition(MatchStore matches, HeadToHead headToHead, StandingsHistory history, FormTable form,
+                    MatchPredictor predictor, TableViews views, TeamTable homeStats, TeamTable awayStats,
+                    Ligue1Controller.StandingsResponse standings, byte[] standingsJson) {
+            this.matches = matches;
+            this.headToHead = headToHead;
+            this.history = history;
+            this.form = form;
+            this.predictor = predictor;
+            this.views = views;
+            this.homeStats = homeStats;
+            this.awayStats = awayStats;
+            this.standings = standings;
+            this.standingsJson = standingsJson;
         }
-        String normalizedTeam = normalize(teamName);
-        return normalizedTeam.equals(normalizedWanted)
-                || normalizedTeam.contains(normalizedWanted)
-                || normalizedWanted.contains(normalizedTeam);
-    }
-
-    private Outcome outcomeFrom(String result, int gf, int ga) {
-        if (result != null) {
-            String r = result.trim().toUpperCase(Locale.ROOT);
-            if (r.startsWith("W")) {
-                return Outcome.W;
-            }
-            if (r.startsWith("D")) {
-                return Outcome.D;
-            }
-            if (r.startsWith("L")) {
-                return Outcome.L;
-            }
-        }
-        if (gf > ga) {
-            return Outcome.W;
-        }
-        if (gf == ga) {
-            return Outcome.D;
-        }
-        return Outcome.L;
-    }
-
-    private enum Outcome {
-        W,
-        D,
-        L
-    }
-
-    private static class TeamAggregate {
-        TeamStats overall = new TeamStats();
-        TeamStats home = new TeamStats();
-        TeamStats away = new TeamStats();
-    }
-
-    private static class TeamStats {
-        int mp;
-        int w;
-        int d;
-        int l;
-        int gf;
-        int ga;
-        int pts;
-
-        void applyMatch(int gf, int ga) {
-            mp++;
-            this.gf += gf;
-            this.ga += ga;
-            if (gf > ga) {
-                w++;
-                pts += 3;
-            } else if (gf == ga) {
-                d++;
-                pts += 1;
-            } else {
-                l++;
-            }
-        }
-    }
-
-    private static class CsvMatch {
-        final String homeTeam;
-        final String awayTeam;
-        final int homeGoals;
-        final int awayGoals;
-
-        CsvMatch(String homeTeam, String awayTeam, int homeGoals, int awayGoals) {
-            this.homeTeam = homeTeam;
-            this.awayTeam = awayTeam;
-            this.homeGoals = homeGoals;
-            this.awayGoals = awayGoals;
-        }
-    }
-
-    private static class Aggregation {
-        int mp;
-        int w;
-        int d;
-        int l;
-        int gf;
-        int ga;
-        int pts;
     }
 }
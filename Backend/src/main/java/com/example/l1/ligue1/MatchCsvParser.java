@@ -0,0 +1,380 @@
+package com.example.l1.ligue1;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Byte-level reader for the football-data match CSV. Rows are scanned in place: the competition code
+ * and status are compared against the raw bytes as soon as their column is reached, so rejected rows
+ * cost one pass over their bytes and no allocation. Only the competition, team and score columns of
+ * kept rows are decoded, and those strings are memoised by their bytes.
+ */
+final class MatchCsvParser {
+    // Small files are read onto the heap; mapping them would pin the file (on Windows) until the buffer is collected.
+    private static final long MAP_THRESHOLD = 16L * 1024 * 1024;
+    private static final long MAX_REGION = 1L << 30;
+    // parseRow verdicts.
+    private static final int REJECTED = 0;
+    private static final int KEPT = 1;
+    private static final int OTHER_STATUS = 2;
+
+    interface MatchSink {
+        void accept(String competition, String homeTeam, String awayTeam, int homeGoals, int awayGoals,
+                    int halfTimeHome, int halfTimeAway, int matchday, int epochDay);
+    }
+
+    interface FixtureSink {
+        void accept(String competition, String homeTeam, String awayTeam, int matchday, int epochDay);
+    }
+
+    private final byte[] competition;
+    private final byte[] status;
+    private final NameCache names = new NameCache();
+
+    private int compIdx;
+    private int statusIdx;
+    private int homeIdx;
+    private int awayIdx;
+    private int homeGoalsIdx;
+    private int awayGoalsIdx;
+    private int halfHomeIdx;
+    private int halfAwayIdx;
+    private int matchdayIdx;
+    private int dateIdx;
+    private int lastNeeded;
+
+    /** A null competition or status keeps rows of every competition or status. */
+    MatchCsvParser(String competition, String status) {
+        this.competition = competition == null ? null : competition.getBytes(StandardCharsets.UTF_8);
+        this.status = status == null ? null : status.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Streams every matching row of {@code file} into {@code sink} and returns how many rows were kept. */
+    int parse(Path file, MatchSink sink) throws IOException {
+        return parse(file, sink, null);
+    }
+
+    /**
+     * As {@link #parse(Path, MatchSink)}, also streaming rows of the competition that have no score yet
+     * (whatever their status) into {@code fixtures}.
+     */
+    int parse(Path file, MatchSink sink, FixtureSink fixtures) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            boolean header = true;
+            int kept = 0;
+            while (position < size) {
+                long length = Math.min(MAX_REGION, size - position);
+                ByteBuffer buffer = read(channel, position, length, size);
+                boolean last = position + length == size;
+                int limit = buffer.limit();
+                if (!last) {
+                    // Stop at the last complete line; the remainder starts the next region.
+                    while (limit > 0 && buffer.get(limit - 1) != '\n') {
+                        limit--;
+                    }
+                    if (limit == 0) {
+                        throw new IOException("Line longer than " + MAX_REGION + " bytes in " + file);
+                    }
+                }
+                int offset = 0;
+                if (header) {
+                    int end = lineEnd(buffer, 0, limit);
+                    if (!readHeader(buffer, end)) {
+                        return 0;
+                    }
+                    offset = Math.min(limit, end + 1);
+                    header = false;
+                }
+                kept += parseRows(buffer, offset, limit, sink, fixtures);
+                position += limit;
+            }
+            return kept;
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, long length, long size) throws IOException {
+        if (size >= MAP_THRESHOLD) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) length);
+        while (buffer.hasRemaining() && channel.read(buffer, position + buffer.position()) >= 0) {
+            // keep reading until the region is full
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private boolean readHeader(ByteBuffer buffer, int end) {
+        byte[] bytes = new byte[end];
+        for (int i = 0; i < end; i++) {
+            bytes[i] = buffer.get(i);
+        }
+        String line = new String(bytes, StandardCharsets.UTF_8);
+        if (!line.isEmpty() && line.charAt(0) == '\uFEFF') {
+            line = line.substring(1);
+        }
+        String[] headers = line.trim().split(",", -1);
+        compIdx = indexOf(headers, "competition_code");
+        statusIdx = status == null ? -1 : indexOf(headers, "status");
+        homeIdx = indexOf(headers, "home_team");
+        awayIdx = indexOf(headers, "away_team");
+        homeGoalsIdx = indexOf(headers, "fulltime_home");
+        awayGoalsIdx = indexOf(headers, "fulltime_away");
+        halfHomeIdx = indexOf(headers, "halftime_home");
+        halfAwayIdx = indexOf(headers, "halftime_away");
+        matchdayIdx = indexOf(headers, "matchday");
+        dateIdx = indexOf(headers, "date_utc");
+        if (compIdx < 0 || homeIdx < 0 || awayIdx < 0 || homeGoalsIdx < 0 || awayGoalsIdx < 0) {
+            System.err.println("Required columns not found in CSV");
+            return false;
+        }
+        lastNeeded = Math.max(Math.max(compIdx, statusIdx), Math.max(Math.max(homeIdx, awayIdx), Math.max(homeGoalsIdx, awayGoalsIdx)));
+        lastNeeded = Math.max(lastNeeded, Math.max(matchdayIdx, dateIdx));
+        lastNeeded = Math.max(lastNeeded, Math.max(halfHomeIdx, halfAwayIdx));
+        return true;
+    }
+
+    private int parseRows(ByteBuffer buffer, int offset, int limit, MatchSink sink, FixtureSink fixtures) {
+        int[] starts = new int[lastNeeded + 1];
+        int[] ends = new int[lastNeeded + 1];
+        int kept = 0;
+        int pos = offset;
+        while (pos < limit) {
+            int rowEnd = lineEnd(buffer, pos, limit);
+            int verdict = parseRow(buffer, pos, rowEnd, starts, ends, fixtures != null);
+            if (verdict != REJECTED) {
+                int homeGoals = parseInt(buffer, starts[homeGoalsIdx], ends[homeGoalsIdx]);
+                int awayGoals = parseInt(buffer, starts[awayGoalsIdx], ends[awayGoalsIdx]);
+                boolean played = homeGoals >= 0 && awayGoals >= 0;
+                boolean unplayed = fixtures != null && isBlank(buffer, starts[homeGoalsIdx], ends[homeGoalsIdx])
+                        && isBlank(buffer, starts[awayGoalsIdx], ends[awayGoalsIdx]);
+                if ((played && verdict == KEPT) || unplayed) {
+                    String comp = names.get(buffer, starts[compIdx], ends[compIdx]);
+                    String home = names.get(buffer, starts[homeIdx], ends[homeIdx]);
+                    String away = names.get(buffer, starts[awayIdx], ends[awayIdx]);
+                    int matchday = matchdayIdx < 0 ? 0 : Math.max(0, parseInt(buffer, starts[matchdayIdx], ends[matchdayIdx]));
+                    int epochDay = dateIdx < 0 ? MatchStore.UNKNOWN_DATE : parseDate(buffer, starts[dateIdx], ends[dateIdx]);
+                    if (played) {
+                        // -1 when the half-time score is missing.
+                        int halfHome = halfHomeIdx < 0 ? -1 : parseInt(buffer, starts[halfHomeIdx], ends[halfHomeIdx]);
+                        int halfAway = halfAwayIdx < 0 ? -1 : parseInt(buffer, starts[halfAwayIdx], ends[halfAwayIdx]);
+                        sink.accept(comp, home, away, homeGoals, awayGoals, halfHome, halfAway, matchday, epochDay);
+                        kept++;
+                    } else {
+                        fixtures.accept(comp, home, away, matchday, epochDay);
+                    }
+                }
+            }
+            pos = rowEnd + 1;
+        }
+        return kept;
+    }
+
+    // Records field bounds up to the last needed column, bailing out as soon as a filter column mismatches
+    // (a status mismatch only when fixtures are not wanted).
+    private int parseRow(ByteBuffer buffer, int pos, int rowEnd, int[] starts, int[] ends, boolean anyStatus) {
+        int end = rowEnd;
+        if (end > pos && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        int field = 0;
+        int fieldStart = pos;
+        boolean inQuotes = false;
+        int verdict = KEPT;
+        for (int i = pos; i <= end; i++) {
+            byte b = i < end ? buffer.get(i) : (byte) ',';
+            if (b == '"') {
+                inQuotes = !inQuotes;
+                continue;
+            }
+            if (b != ',' || (inQuotes && i < end)) {
+                continue;
+            }
+            starts[field] = fieldStart;
+            ends[field] = i;
+            if (field == compIdx && competition != null && !matches(buffer, fieldStart, i, competition)) {
+                return REJECTED;
+            }
+            if (field == statusIdx && !matches(buffer, fieldStart, i, status)) {
+                if (!anyStatus) {
+                    return REJECTED;
+                }
+                verdict = OTHER_STATUS;
+            }
+            if (field == lastNeeded) {
+                return verdict;
+            }
+            field++;
+            fieldStart = i + 1;
+        }
+        return REJECTED;
+    }
+
+    private static boolean matches(ByteBuffer buffer, int start, int end, byte[] expected) {
+        if (end - start == expected.length + 2 && buffer.get(start) == '"' && buffer.get(end - 1) == '"') {
+            start++;
+            end--;
+        }
+        if (end - start != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (buffer.get(start + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBlank(ByteBuffer buffer, int start, int end) {
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b != ' ' && b != '"') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Returns -1 for empty or non-numeric scores (fixtures not yet played).
+    private static int parseInt(ByteBuffer buffer, int start, int end) {
+        while (start < end && (buffer.get(start) == ' ' || buffer.get(start) == '"')) start++;
+        while (end > start && (buffer.get(end - 1) == ' ' || buffer.get(end - 1) == '"')) end--;
+        if (start == end || end - start > 9) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    // Reads a leading yyyy-mm-dd as days since the epoch; anything else is UNKNOWN_DATE.
+    private static int parseDate(ByteBuffer buffer, int start, int end) {
+        if (start < end && buffer.get(start) == '"') {
+            start++;
+        }
+        if (end - start < 10 || buffer.get(start + 4) != '-' || buffer.get(start + 7) != '-') {
+            return MatchStore.UNKNOWN_DATE;
+        }
+        int year = parseInt(buffer, start, start + 4);
+        int month = parseInt(buffer, start + 5, start + 7);
+        int day = parseInt(buffer, start + 8, start + 10);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return MatchStore.UNKNOWN_DATE;
+        }
+        return epochDay(year, month, day);
+    }
+
+    // Days from civil date (proleptic Gregorian), same result as LocalDate.of(y, m, d).toEpochDay().
+    static int epochDay(int year, int month, int day) {
+        int y = month <= 2 ? year - 1 : year;
+        int era = (y >= 0 ? y : y - 399) / 400;
+        int yoe = y - era * 400;
+        int doy = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - 719468;
+    }
+
+    private static int lineEnd(ByteBuffer buffer, int pos, int limit) {
+        while (pos < limit && buffer.get(pos) != '\n') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int indexOf(String[] headers, String name) {
+        for (int i = 0; i < headers.length; i++) {
+            if (name.equalsIgnoreCase(headers[i].trim())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Open-addressing map from raw field bytes to the decoded string, so repeated team names decode once. */
+    private static final class NameCache {
+        private byte[][] keys = new byte[64][];
+        private String[] values = new String[64];
+        private int size;
+
+        String get(ByteBuffer buffer, int start, int end) {
+            int hash = 1;
+            boolean quoted = false;
+            for (int i = start; i < end; i++) {
+                byte b = buffer.get(i);
+                quoted |= b == '"';
+                hash = 31 * hash + b;
+            }
+            int mask = keys.length - 1;
+            int slot = mix(hash) & mask;
+            while (keys[slot] != null) {
+                if (equal(keys[slot], buffer, start, end)) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            byte[] key = new byte[end - start];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = buffer.get(start + i);
+            }
+            String value = new String(key, StandardCharsets.UTF_8);
+            if (quoted) {
+                value = value.replace("\"", "");
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            if (++size * 2 > keys.length) {
+                grow();
+            }
+            return value;
+        }
+
+        private void grow() {
+            byte[][] oldKeys = keys;
+            String[] oldValues = values;
+            keys = new byte[oldKeys.length * 2][];
+            values = new String[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == null) {
+                    continue;
+                }
+                int slot = mix(Arrays.hashCode(oldKeys[i])) & mask;
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+
+        private static boolean equal(byte[] key, ByteBuffer buffer, int start, int end) {
+            if (key.length != end - start) {
+                return false;
+            }
+            for (int i = 0; i < key.length; i++) {
+                if (key[i] != buffer.get(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int mix(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.l1.ligue1;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+
+/**
+ * Dixon-Coles style score model for one competition. Each team keeps exponentially decayed sums of
+ * goals scored and conceded at home and away, so recording a result is O(1) and recent form weighs
+ * more; a prediction turns those into Poisson rates (shrunk towards the league average), builds the
+ * 0..{@link #MAX_GOALS} score grid with the Dixon-Coles low-score correction and sums it.
+ * The correction uses a fixed rho rather than a fitted one.
+ */
+final class MatchPredictor {
+    private static final int MAX_GOALS = 10;
+    // Per-match decay of a team's history at that venue, and of the league averages.
+    private static final double TEAM_DECAY = 0.97;
+    private static final double LEAGUE_DECAY = 0.995;
+    // Prior weight, in matches, pulling each team's rates towards the league average.
+    private static final double SHRINKAGE = 3.0;
+    // Typical fitted value in the literature: draws at 0-0 and 1-1 are a little more likely than independent Poissons say.
+    private static final double RHO = -0.1;
+
+    private final double[] homeScored;
+    private final double[] homeConceded;
+    private final double[] homeWeight;
+    private final double[] awayScored;
+    private final double[] awayConceded;
+    private final double[] awayWeight;
+    private double leagueHome;
+    private double leagueAway;
+    private double leagueWeight;
+    private int recorded;
+
+    MatchPredictor(int teams) {
+        this.homeScored = new double[teams];
+        this.homeConceded = new double[teams];
+        this.homeWeight = new double[teams];
+        this.awayScored = new double[teams];
+        this.awayConceded = new double[teams];
+        this.awayWeight = new double[teams];
+    }
+
+    private MatchPredictor(MatchPredictor other, int teams) {
+        this.homeScored = Arrays.copyOf(other.homeScored, teams);
+        this.homeConceded = Arrays.copyOf(other.homeConceded, teams);
+        this.homeWeight = Arrays.copyOf(other.homeWeight, teams);
+        this.awayScored = Arrays.copyOf(other.awayScored, teams);
+        this.awayConceded = Arrays.copyOf(other.awayConceded, teams);
+        this.awayWeight = Arrays.copyOf(other.awayWeight, teams);
+        this.leagueHome = other.leagueHome;
+        this.leagueAway = other.leagueAway;
+        this.leagueWeight = other.leagueWeight;
+        this.recorded = other.recorded;
+    }
+
+    /** Trains a model on {@code matches} in kick-off order, skipping those {@code include} rejects. */
+    static MatchPredictor train(MatchStore matches, IntPredicate include) {
+        MatchPredictor predictor = new MatchPredictor(matches.teamCount());
+        predictor.recordAll(matches, 0, include);
+        return predictor;
+    }
+
+    /**
+     * A model for {@code matches} that reuses this one when it was trained on a prefix of them, so a
+     * reload only replays the new results; otherwise it retrains from scratch.
+     */
+    MatchPredictor extendTo(MatchStore earlier, MatchStore matches) {
+        if (earlier.size() != recorded || !matches.startsWith(earlier)) {
+            return train(matches, m -> true);
+        }
+        MatchPredictor extended = new MatchPredictor(this, matches.teamCount());
+        extended.recordAll(matches, earlier.size(), m -> true);
+        return extended;
+    }
+
+    int recorded() {
+        return recorded;
+    }
+
+    void record(int home, int away, int homeGoals, int awayGoals) {
+        homeScored[home] = homeScored[home] * TEAM_DECAY + homeGoals;
+        homeConceded[home] = homeConceded[home] * TEAM_DECAY + awayGoals;
+        homeWeight[home] = homeWeight[home] * TEAM_DECAY + 1;
+        awayScored[away] = awayScored[away] * TEAM_DECAY + awayGoals;
+        awayConceded[away] = awayConceded[away] * TEAM_DECAY + homeGoals;
+        awayWeight[away] = awayWeight[away] * TEAM_DECAY + 1;
+        leagueHome = leagueHome * LEAGUE_DECAY + homeGoals;
+        leagueAway = leagueAway * LEAGUE_DECAY + awayGoals;
+        leagueWeight = leagueWeight * LEAGUE_DECAY + 1;
+        recorded++;
+    }
+
+    /**
+     * Outcome probabilities, expected goals and most likely score for {@code home} hosting
+     * {@code away}. {@code names} supplies the display names.
+     */
+    Ligue1Controller.Prediction predict(MatchStore names, int home, int away) {
+        double homeRate = leagueWeight == 0 ? 1.0 : Math.max(0.1, leagueHome / leagueWeight);
+        double awayRate = leagueWeight == 0 ? 1.0 : Math.max(0.1, leagueAway / leagueWeight);
+        double homeAttack = rate(homeScored[home], homeWeight[home], homeRate) / homeRate;
+        double homeDefence = rate(homeConceded[home], homeWeight[home], awayRate) / awayRate;
+        double awayAttack = rate(awayScored[away], awayWeight[away], awayRate) / awayRate;
+        double awayDefence = rate(awayConceded[away], awayWeight[away], homeRate) / homeRate;
+        double lambda = homeRate * homeAttack * awayDefence;
+        double mu = awayRate * awayAttack * homeDefence;
+
+        double[] homeGoals = poisson(lambda);
+        double[] awayGoals = poisson(mu);
+        double homeWin = 0;
+        double draw = 0;
+        double awayWin = 0;
+        double best = -1;
+        int bestHome = 0;
+        int bestAway = 0;
+        for (int h = 0; h <= MAX_GOALS; h++) {
+            for (int a = 0; a <= MAX_GOALS; a++) {
+                double p = homeGoals[h] * awayGoals[a] * tau(h, a, lambda, mu);
+                if (h > a) {
+                    homeWin += p;
+                } else if (h == a) {
+                    draw += p;
+                } else {
+                    awayWin += p;
+                }
+                if (p > best) {
+                    best = p;
+                    bestHome = h;
+                    bestAway = a;
+                }
+            }
+        }
+        double total = homeWin + draw + awayWin;
+        return new Ligue1Controller.Prediction(names.team(home), names.team(away),
+                homeWin / total, draw / total, awayWin / total, lambda, mu, bestHome + "-" + bestAway, null);
+    }
+
+    private void recordAll(MatchStore matches, int from, IntPredicate include) {
+        Integer[] order = new Integer[matches.size() - from];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = from + i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int byDate = Integer.compare(matches.date(a), matches.date(b));
+            if (byDate != 0) return byDate;
+            return Integer.compare(matches.matchday(a), matches.matchday(b));
+        });
+        for (int m : order) {
+            if (include.test(m)) {
+                record(matches.home(m), matches.away(m), matches.homeGoals(m), matches.awayGoals(m));
+            }
+        }
+    }
+
+    private static double rate(double goals, double weight, double leagueRate) {
+        return (goals + SHRINKAGE * leagueRate) / (weight + SHRINKAGE);
+    }
+
+    private static double[] poisson(double lambda) {
+        double[] p = new double[MAX_GOALS + 1];
+        p[0] = Math.exp(-lambda);
+        for (int g = 1; g <= MAX_GOALS; g++) {
+            p[g] = p[g - 1] * lambda / g;
+        }
+        return p;
+    }
+
+    private static double tau(int h, int a, double lambda, double mu) {
+        if (h == 0 && a == 0) return 1 - lambda * mu * RHO;
+        if (h == 0 && a == 1) return 1 + lambda * RHO;
+        if (h == 1 && a == 0) return 1 + mu * RHO;
+        if (h == 1 && a == 1) return 1 - RHO;
+        return 1;
+    }
+}
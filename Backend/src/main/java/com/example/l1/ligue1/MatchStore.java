@@ -0,0 +1,262 @@
+package com.example.l1.ligue1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Finished matches as parallel primitive columns. Teams are dictionary-encoded: {@link #team(int)}
+ * maps an id back to its display name, and every aggregation indexes plain arrays by team id.
+ * Fixtures still to be played share the same team dictionary in their own columns.
+ * Instances are immutable once built.
+ */
+final class MatchStore {
+    static final int UNKNOWN_DATE = Integer.MIN_VALUE;
+
+    private final List<String> teams;
+    private final Map<String, Integer> idByName;
+    private final int size;
+    private final int[] home;
+    private final int[] away;
+    private final byte[] homeGoals;
+    private final byte[] awayGoals;
+    private final byte[] halfTimeHome;
+    private final byte[] halfTimeAway;
+    private final short[] matchday;
+    private final int[] date;
+    private final int fixtureCount;
+    private final int[] fixtureHome;
+    private final int[] fixtureAway;
+    private final short[] fixtureMatchday;
+    private final boolean[] hasResults;
+
+    private MatchStore(Builder b) {
+        this.teams = Collections.unmodifiableList(new ArrayList<>(b.teams));
+        this.idByName = new HashMap<>(b.idByDisplayName);
+        this.size = b.size;
+        this.home = Arrays.copyOf(b.home, b.size);
+        this.away = Arrays.copyOf(b.away, b.size);
+        this.homeGoals = Arrays.copyOf(b.homeGoals, b.size);
+        this.awayGoals = Arrays.copyOf(b.awayGoals, b.size);
+        this.halfTimeHome = Arrays.copyOf(b.halfTimeHome, b.size);
+        this.halfTimeAway = Arrays.copyOf(b.halfTimeAway, b.size);
+        this.matchday = Arrays.copyOf(b.matchday, b.size);
+        this.date = Arrays.copyOf(b.date, b.size);
+        this.fixtureCount = b.fixtureCount;
+        this.fixtureHome = Arrays.copyOf(b.fixtureHome, b.fixtureCount);
+        this.fixtureAway = Arrays.copyOf(b.fixtureAway, b.fixtureCount);
+        this.fixtureMatchday = Arrays.copyOf(b.fixtureMatchday, b.fixtureCount);
+        this.hasResults = new boolean[teams.size()];
+        for (int m = 0; m < size; m++) {
+            hasResults[home[m]] = true;
+            hasResults[away[m]] = true;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    int teamCount() {
+        return teams.size();
+    }
+
+    String team(int id) {
+        return teams.get(id);
+    }
+
+    /** Id of the team with this exact display name, or -1 when it has no match in the store. */
+    int teamId(String name) {
+        Integer id = idByName.get(name);
+        return id == null ? -1 : id;
+    }
+
+    List<String> teams() {
+        return teams;
+    }
+
+    /** False for a team that so far only appears in fixtures. */
+    boolean hasResults(int team) {
+        return hasResults[team];
+    }
+
+    /**
+     * {@code ranking} without the teams that only appear in fixtures, unless {@code table} counts a match
+     * for them (a scenario result): a league table lists the teams that have played.
+     */
+    int[] playedOnly(int[] ranking, TeamTable table) {
+        int[] out = new int[ranking.length];
+        int n = 0;
+        for (int t : ranking) {
+            if (hasResults[t] || table.mp[t] > 0) {
+                out[n++] = t;
+            }
+        }
+        return n == out.length ? ranking : Arrays.copyOf(out, n);
+    }
+
+    int home(int match) {
+        return home[match];
+    }
+
+    int away(int match) {
+        return away[match];
+    }
+
+    int homeGoals(int match) {
+        return homeGoals[match];
+    }
+
+    int awayGoals(int match) {
+        return awayGoals[match];
+    }
+
+    /** Home goals at half time, or -1 when the file did not record them. */
+    int halfTimeHome(int match) {
+        return halfTimeHome[match];
+    }
+
+    int halfTimeAway(int match) {
+        return halfTimeAway[match];
+    }
+
+    int matchday(int match) {
+        return matchday[match];
+    }
+
+    /** Kick-off date as days since 1970-01-01, or {@link #UNKNOWN_DATE}. */
+    int date(int match) {
+        return date[match];
+    }
+
+    /** True when every team and result of {@code earlier} appears unchanged, in order, at the start of this store. */
+    boolean startsWith(MatchStore earlier) {
+        if (earlier.size > size || earlier.teams.size() > teams.size()) {
+            return false;
+        }
+        for (int t = 0; t < earlier.teams.size(); t++) {
+            if (!earlier.teams.get(t).equals(teams.get(t))) {
+                return false;
+            }
+        }
+        for (int m = 0; m < earlier.size; m++) {
+            if (earlier.home[m] != home[m] || earlier.away[m] != away[m]
+                    || earlier.homeGoals[m] != homeGoals[m] || earlier.awayGoals[m] != awayGoals[m]
+                    || earlier.halfTimeHome[m] != halfTimeHome[m] || earlier.halfTimeAway[m] != halfTimeAway[m]
+                    || earlier.matchday[m] != matchday[m] || earlier.date[m] != date[m]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int fixtureCount() {
+        return fixtureCount;
+    }
+
+    int fixtureHome(int fixture) {
+        return fixtureHome[fixture];
+    }
+
+    int fixtureAway(int fixture) {
+        return fixtureAway[fixture];
+    }
+
+    int fixtureMatchday(int fixture) {
+        return fixtureMatchday[fixture];
+    }
+
+    static final class Builder {
+        private final Function<String, String> displayName;
+        private final Map<String, Integer> idByRawName = new HashMap<>();
+        private final Map<String, Integer> idByDisplayName = new HashMap<>();
+        private final List<String> teams = new ArrayList<>();
+        private int size;
+        private int[] home = new int[512];
+        private int[] away = new int[512];
+        private byte[] homeGoals = new byte[512];
+        private byte[] awayGoals = new byte[512];
+        private byte[] halfTimeHome = new byte[512];
+        private byte[] halfTimeAway = new byte[512];
+        private short[] matchday = new short[512];
+        private int[] date = new int[512];
+        private int fixtureCount;
+        private int[] fixtureHome = new int[64];
+        private int[] fixtureAway = new int[64];
+        private short[] fixtureMatchday = new short[64];
+
+        // displayName runs once per distinct raw name, not once per row.
+        Builder(Function<String, String> displayName) {
+            this.displayName = displayName;
+        }
+
+        Builder add(String homeTeam, String awayTeam, int homeScore, int awayScore, int round, int epochDay) {
+            return add(homeTeam, awayTeam, homeScore, awayScore, -1, -1, round, epochDay);
+        }
+
+        Builder add(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                    int halfTimeHomeScore, int halfTimeAwayScore, int round, int epochDay) {
+            if (size == home.length) {
+                int grown = size * 2;
+                home = Arrays.copyOf(home, grown);
+                away = Arrays.copyOf(away, grown);
+                homeGoals = Arrays.copyOf(homeGoals, grown);
+                awayGoals = Arrays.copyOf(awayGoals, grown);
+                halfTimeHome = Arrays.copyOf(halfTimeHome, grown);
+                halfTimeAway = Arrays.copyOf(halfTimeAway, grown);
+                matchday = Arrays.copyOf(matchday, grown);
+                date = Arrays.copyOf(date, grown);
+            }
+            home[size] = teamId(homeTeam);
+            away[size] = teamId(awayTeam);
+            homeGoals[size] = (byte) Math.min(homeScore, Byte.MAX_VALUE);
+            awayGoals[size] = (byte) Math.min(awayScore, Byte.MAX_VALUE);
+            // A half-time score above the full-time one is a bad row; treat it as missing.
+            boolean halfTimeKnown = halfTimeHomeScore >= 0 && halfTimeAwayScore >= 0
+                    && halfTimeHomeScore <= homeScore && halfTimeAwayScore <= awayScore;
+            halfTimeHome[size] = (byte) (halfTimeKnown ? Math.min(halfTimeHomeScore, Byte.MAX_VALUE) : -1);
+            halfTimeAway[size] = (byte) (halfTimeKnown ? Math.min(halfTimeAwayScore, Byte.MAX_VALUE) : -1);
+            matchday[size] = (short) Math.min(round, Short.MAX_VALUE);
+            date[size] = epochDay;
+            size++;
+            return this;
+        }
+
+        Builder addFixture(String homeTeam, String awayTeam, int round) {
+            if (fixtureCount == fixtureHome.length) {
+                int grown = fixtureCount * 2;
+                fixtureHome = Arrays.copyOf(fixtureHome, grown);
+                fixtureAway = Arrays.copyOf(fixtureAway, grown);
+                fixtureMatchday = Arrays.copyOf(fixtureMatchday, grown);
+            }
+            fixtureHome[fixtureCount] = teamId(homeTeam);
+            fixtureAway[fixtureCount] = teamId(awayTeam);
+            fixtureMatchday[fixtureCount] = (short) Math.min(round, Short.MAX_VALUE);
+            fixtureCount++;
+            return this;
+        }
+
+        MatchStore build() {
+            return new MatchStore(this);
+        }
+
+        private int teamId(String rawName) {
+            Integer id = idByRawName.get(rawName);
+            if (id == null) {
+                String name = displayName.apply(rawName);
+                id = idByDisplayName.get(name);
+                if (id == null) {
+                    id = teams.size();
+                    teams.add(name);
+                    idByDisplayName.put(name, id);
+                }
+                idByRawName.put(rawName, id);
+            }
+            return id;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.l1.ligue1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Monte Carlo simulation of the rest of one competition's season. Results played so far (optionally
+ * only up to a matchday, to replay the run-in from that point) form the base table and fit a Poisson
+ * goal model: separate home and away attack and defence ratings per team, shrunk towards the league
+ * average. Each remaining fixture samples both scores from a precomputed cumulative distribution,
+ * seasons run in parallel chunks with their own {@link SplittableRandom}, and each chunk tallies
+ * finishing positions in primitive arrays.
+ */
+final class SeasonSimulator {
+    private static final int MAX_GOALS = 10;
+    // Prior weight, in matches, pulling each team's rates towards the league average.
+    private static final double SHRINKAGE = 3.0;
+    private static final int MAX_TEAMS = 1024;
+    // Fixed rather than per-core, so a seed splits into the same streams on every machine.
+    private static final int CHUNKS = 64;
+
+    private final MatchStore matches;
+    private final int teams;
+    private final int[] nameRank;
+    private final int[] basePoints;
+    private final int[] baseGoalsFor;
+    private final int[] baseGoalsAgainst;
+    private final int[] fixtureHome;
+    private final int[] fixtureAway;
+    // Cumulative P(goals <= g) for each fixture side, at fixture * (MAX_GOALS + 1) + g.
+    private final double[] homeCdf;
+    private final double[] awayCdf;
+
+    /** {@code afterMatchday} null keeps every result and simulates only the unplayed fixtures. */
+    SeasonSimulator(MatchStore matches, String[] sortKeys, Integer afterMatchday) {
+        if (matches.teamCount() > MAX_TEAMS) {
+            throw new IllegalArgumentException("Too many teams to simulate: " + matches.teamCount());
+        }
+        this.matches = matches;
+        this.teams = matches.teamCount();
+        this.nameRank = new int[teams];
+        Integer[] byName = new Integer[teams];
+        for (int t = 0; t < teams; t++) {
+            byName[t] = t;
+        }
+        Arrays.sort(byName, (a, b) -> sortKeys[a].compareTo(sortKeys[b]));
+        for (int i = 0; i < teams; i++) {
+            nameRank[byName[i]] = i;
+        }
+
+        TeamTable home = new TeamTable(teams);
+        TeamTable away = new TeamTable(teams);
+        List<int[]> remaining = new ArrayList<>();
+        for (int m = 0; m < matches.size(); m++) {
+            int matchday = matches.matchday(m);
+            if (afterMatchday != null && matchday > afterMatchday) {
+                remaining.add(new int[]{matches.home(m), matches.away(m)});
+                continue;
+            }
+            home.apply(matches.home(m), matches.homeGoals(m), matches.awayGoals(m));
+            away.apply(matches.away(m), matches.awayGoals(m), matches.homeGoals(m));
+        }
+        for (int f = 0; f < matches.fixtureCount(); f++) {
+            remaining.add(new int[]{matches.fixtureHome(f), matches.fixtureAway(f)});
+        }
+        TeamTable overall = home.plus(away);
+        this.basePoints = overall.pts;
+        this.baseGoalsFor = overall.gf;
+        this.baseGoalsAgainst = overall.ga;
+
+        int played = 0;
+        int homeGoals = 0;
+        int awayGoals = 0;
+        for (int t = 0; t < teams; t++) {
+            played += home.mp[t];
+            homeGoals += home.gf[t];
+            awayGoals += away.gf[t];
+        }
+        double homeRate = played == 0 ? 1.0 : Math.max(0.1, (double) homeGoals / played);
+        double awayRate = played == 0 ? 1.0 : Math.max(0.1, (double) awayGoals / played);
+
+        int fixtures = remaining.size();
+        this.fixtureHome = new int[fixtures];
+        this.fixtureAway = new int[fixtures];
+        this.homeCdf = new double[fixtures * (MAX_GOALS + 1)];
+        this.awayCdf = new double[fixtures * (MAX_GOALS + 1)];
+        for (int f = 0; f < fixtures; f++) {
+            int h = remaining.get(f)[0];
+            int a = remaining.get(f)[1];
+            fixtureHome[f] = h;
+            fixtureAway[f] = a;
+            double homeAttack = rate(home.gf[h], home.mp[h], homeRate) / homeRate;
+            double homeDefence = rate(home.ga[h], home.mp[h], awayRate) / awayRate;
+            double awayAttack = rate(away.gf[a], away.mp[a], awayRate) / awayRate;
+            double awayDefence = rate(away.ga[a], away.mp[a], homeRate) / homeRate;
+            fillCdf(homeCdf, f, homeRate * homeAttack * awayDefence);
+            fillCdf(awayCdf, f, awayRate * awayAttack * homeDefence);
+        }
+    }
+
+    int fixtures() {
+        return fixtureHome.length;
+    }
+
+    /** Runs {@code runs} seasons in {@link #CHUNKS} chunks across all cores; the same seed always gives the same result. */
+    Ligue1Controller.SimulationResult simulate(String competition, Integer afterMatchday, int runs, long seed) {
+        long start = System.nanoTime();
+        int chunks = Math.max(1, Math.min(runs, CHUNKS));
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[chunks];
+        for (int c = 0; c < chunks; c++) {
+            randoms[c] = root.split();
+        }
+        long[] totals = IntStream.range(0, chunks).parallel()
+                .mapToObj(c -> runChunk(randoms[c], runs / chunks + (c < runs % chunks ? 1 : 0)))
+                .reduce(new long[teams * teams + teams], SeasonSimulator::add);
+
+        List<Ligue1Controller.TeamOdds> odds = new ArrayList<>(teams);
+        for (int t = 0; t < teams; t++) {
+            List<Double> positions = new ArrayList<>(teams);
+            double expectedPosition = 0;
+            for (int p = 0; p < teams; p++) {
+                double probability = (double) totals[t * teams + p] / runs;
+                positions.add(probability);
+                expectedPosition += probability * (p + 1);
+            }
+            double expectedPoints = (double) totals[teams * teams + t] / runs;
+            odds.add(new Ligue1Controller.TeamOdds(matches.team(t), expectedPoints, expectedPosition, positions));
+        }
+        odds.sort((a, b) -> Double.compare(a.getExpectedPosition(), b.getExpectedPosition()));
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        return new Ligue1Controller.SimulationResult(competition, afterMatchday, runs, fixtures(), millis, odds);
+    }
+
+    // Returns position counts at t * teams + p followed by each team's summed final points.
+    private long[] runChunk(SplittableRandom random, int runs) {
+        long[] counts = new long[teams * teams + teams];
+        int[] points = new int[teams];
+        int[] goalsFor = new int[teams];
+        int[] goalsAgainst = new int[teams];
+        long[] order = new long[teams];
+        for (int run = 0; run < runs; run++) {
+            System.arraycopy(basePoints, 0, points, 0, teams);
+            System.arraycopy(baseGoalsFor, 0, goalsFor, 0, teams);
+            System.arraycopy(baseGoalsAgainst, 0, goalsAgainst, 0, teams);
+            for (int f = 0; f < fixtureHome.length; f++) {
+                int h = fixtureHome[f];
+                int a = fixtureAway[f];
+                int hg = sample(homeCdf, f, random.nextDouble());
+                int ag = sample(awayCdf, f, random.nextDouble());
+                goalsFor[h] += hg;
+                goalsAgainst[h] += ag;
+                goalsFor[a] += ag;
+                goalsAgainst[a] += hg;
+                if (hg > ag) {
+                    points[h] += 3;
+                } else if (hg == ag) {
+                    points[h]++;
+                    points[a]++;
+                } else {
+                    points[a] += 3;
+                }
+            }
+            // One packed key per team sorts as points, goal difference, goals for, then name (reversed).
+            for (int t = 0; t < teams; t++) {
+                long key = points[t];
+                key = key * 8192 + Math.max(0, Math.min(8191, goalsFor[t] - goalsAgainst[t] + 4096));
+                key = key * 8192 + Math.min(8191, goalsFor[t]);
+                key = key * MAX_TEAMS + (MAX_TEAMS - 1 - nameRank[t]);
+                order[t] = key * MAX_TEAMS + t;
+                counts[teams * teams + t] += points[t];
+            }
+            Arrays.sort(order);
+            for (int i = 0; i < teams; i++) {
+                int t = (int) (order[i] % MAX_TEAMS);
+                counts[t * teams + (teams - 1 - i)]++;
+            }
+        }
+        return counts;
+    }
+
+    private static long[] add(long[] a, long[] b) {
+        long[] sum = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            sum[i] = a[i] + b[i];
+        }
+        return sum;
+    }
+
+    private static double rate(int goals, int matches, double leagueRate) {
+        return (goals + SHRINKAGE * leagueRate) / (matches + SHRINKAGE);
+    }
+
+    private static void fillCdf(double[] cdf, int fixture, double lambda) {
+        int base = fixture * (MAX_GOALS + 1);
+        double p = Math.exp(-lambda);
+        double cumulative = 0;
+        for (int g = 0; g <= MAX_GOALS; g++) {
+            cumulative += p;
+            cdf[base + g] = cumulative;
+            p *= lambda / (g + 1);
+        }
+        // Everything beyond MAX_GOALS is folded into the last bucket.
+        cdf[base + MAX_GOALS] = 1.0;
+    }
+
+    private static int sample(double[] cdf, int fixture, double u) {
+        int base = fixture * (MAX_GOALS + 1);
+        int g = 0;
+        while (g < MAX_GOALS && u > cdf[base + g]) {
+            g++;
+        }
+        return g;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.l1.ligue1;
+
+import java.util.Arrays;
+
+/**
+ * Cumulative home and away tables after every matchday and after every match date of one competition,
+ * built in a single sweep per key. The table as of any point is then one binary search, one
+ * home-plus-away sum and one sort of the teams, and each team's position after every matchday is
+ * ranked once up front for the progression series.
+ */
+final class StandingsHistory {
+    private final String[] sortKeys;
+    private final Prefix byMatchday;
+    private final Prefix byDate;
+    // positions[i][t]: 1-based rank of team t after matchdays()[i], as in the standings; 0 for fixture-only teams.
+    private final int[][] positions;
+
+    StandingsHistory(MatchStore matches, String[] sortKeys) {
+        this.sortKeys = sortKeys;
+        int[] matchday = new int[matches.size()];
+        int[] date = new int[matches.size()];
+        for (int m = 0; m < matches.size(); m++) {
+            // Rows without a matchday (cup finals) or date only count in the full table.
+            matchday[m] = matches.matchday(m) > 0 ? matches.matchday(m) : Integer.MAX_VALUE;
+            date[m] = matches.date(m) != MatchStore.UNKNOWN_DATE ? matches.date(m) : Integer.MAX_VALUE;
+        }
+        this.byMatchday = new Prefix(matches, matchday);
+        this.byDate = new Prefix(matches, date);
+
+        this.positions = new int[byMatchday.keys.length][];
+        for (int i = 0; i < positions.length; i++) {
+            TeamTable table = byMatchday.home[i].plus(byMatchday.away[i]);
+            int[] ranking = matches.playedOnly(table.ranking(sortKeys), table);
+            positions[i] = new int[matches.teamCount()];
+            for (int rank = 0; rank < ranking.length; rank++) {
+                positions[i][ranking[rank]] = rank + 1;
+            }
+        }
+    }
+
+    /** Matchdays that have at least one result, ascending. */
+    int[] matchdays() {
+        return byMatchday.keys;
+    }
+
+    int pointsAfter(int matchdayIndex, int team) {
+        return byMatchday.home[matchdayIndex].pts[team] + byMatchday.away[matchdayIndex].pts[team];
+    }
+
+    int positionAfter(int matchdayIndex, int team) {
+        return positions[matchdayIndex][team];
+    }
+
+    /** Home and away tables counting every match up to and including {@code matchday}. */
+    TeamTable[] afterMatchday(int matchday) {
+        return byMatchday.upTo(matchday);
+    }
+
+    /** Home and away tables counting every match played on or before {@code epochDay}. */
+    TeamTable[] onDate(int epochDay) {
+        return byDate.upTo(epochDay);
+    }
+
+    String[] sortKeys() {
+        return sortKeys;
+    }
+
+    private static final class Prefix {
+        final int[] keys;
+        final TeamTable[] home;
+        final TeamTable[] away;
+        final TeamTable empty;
+
+        Prefix(MatchStore matches, int[] key) {
+            int teams = matches.teamCount();
+            Integer[] order = new Integer[matches.size()];
+            for (int m = 0; m < order.length; m++) {
+                order[m] = m;
+            }
+            Arrays.sort(order, (a, b) -> Integer.compare(key[a], key[b]));
+
+            int distinct = 0;
+            for (int i = 0; i < order.length; i++) {
+                int k = key[order[i]];
+                if (k != Integer.MAX_VALUE && (i == 0 || k != key[order[i - 1]])) {
+                    distinct++;
+                }
+            }
+            keys = new int[distinct];
+            home = new TeamTable[distinct];
+            away = new TeamTable[distinct];
+            empty = new TeamTable(teams);
+
+            TeamTable homeRunning = new TeamTable(teams);
+            TeamTable awayRunning = new TeamTable(teams);
+            int n = 0;
+            for (int i = 0; i < order.length && key[order[i]] != Integer.MAX_VALUE; i++) {
+                int m = order[i];
+                homeRunning.apply(matches.home(m), matches.homeGoals(m), matches.awayGoals(m));
+                awayRunning.apply(matches.away(m), matches.awayGoals(m), matches.homeGoals(m));
+                boolean lastOfKey = i + 1 == order.length || key[order[i + 1]] != key[m];
+                if (lastOfKey) {
+                    keys[n] = key[m];
+                    home[n] = homeRunning.copy();
+                    away[n] = awayRunning.copy();
+                    n++;
+                }
+            }
+        }
+
+        TeamTable[] upTo(int value) {
+            int i = Arrays.binarySearch(keys, value);
+            if (i < 0) {
+                i = -i - 2;
+            }
+            if (i < 0) {
+                return new TeamTable[]{empty, empty};
+            }
+            return new TeamTable[]{home[i], away[i]};
+        }
+    }
+}
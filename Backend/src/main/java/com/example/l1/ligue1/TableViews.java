@@ -0,0 +1,161 @@
+package com.example.l1.ligue1;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every alternative league table of one competition, built in a single pass over its matches. Each
+ * view is a {@link View} that decides, per match, which home and away records to add; adding a view
+ * means adding one entry to {@link #views}, not another scan. The pass runs newest match first so
+ * "most recent N" views can simply stop counting a team once it has N.
+ */
+final class TableViews {
+    static final String OVERALL = "overall";
+    static final String MONTH = "month";
+    private static final int LAST_N = 5;
+
+    private final Map<String, View> views = new LinkedHashMap<>();
+    private final MonthView months;
+
+    TableViews(MatchStore matches) {
+        int teams = matches.teamCount();
+        views.put(OVERALL, new View(teams) {
+            @Override
+            void accept(MatchStore s, int m) {
+                add(s.home(m), s.away(m), s.homeGoals(m), s.awayGoals(m));
+            }
+        });
+        views.put("home", new View(teams) {
+            @Override
+            void accept(MatchStore s, int m) {
+                home.apply(s.home(m), s.homeGoals(m), s.awayGoals(m));
+            }
+        });
+        views.put("away", new View(teams) {
+            @Override
+            void accept(MatchStore s, int m) {
+                away.apply(s.away(m), s.awayGoals(m), s.homeGoals(m));
+            }
+        });
+        views.put("halftime", new View(teams) {
+            @Override
+            void accept(MatchStore s, int m) {
+                if (s.halfTimeHome(m) >= 0) {
+                    add(s.home(m), s.away(m), s.halfTimeHome(m), s.halfTimeAway(m));
+                }
+            }
+        });
+        views.put("secondhalf", new View(teams) {
+            @Override
+            void accept(MatchStore s, int m) {
+                if (s.halfTimeHome(m) >= 0) {
+                    add(s.home(m), s.away(m), s.homeGoals(m) - s.halfTimeHome(m), s.awayGoals(m) - s.halfTimeAway(m));
+                }
+            }
+        });
+        views.put("last" + LAST_N, new View(teams) {
+            private final int[] seen = new int[teams];
+
+            @Override
+            void accept(MatchStore s, int m) {
+                int h = s.home(m);
+                int a = s.away(m);
+                if (seen[h]++ < LAST_N) {
+                    home.apply(h, s.homeGoals(m), s.awayGoals(m));
+                }
+                if (seen[a]++ < LAST_N) {
+                    away.apply(a, s.awayGoals(m), s.homeGoals(m));
+                }
+            }
+        });
+        months = new MonthView(teams);
+        views.put(MONTH, months);
+
+        Integer[] order = new Integer[matches.size()];
+        for (int m = 0; m < order.length; m++) {
+            order[m] = m;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int byDate = Integer.compare(matches.date(b), matches.date(a));
+            if (byDate != 0) return byDate;
+            return Integer.compare(matches.matchday(b), matches.matchday(a));
+        });
+        for (int m : order) {
+            for (View view : views.values()) {
+                view.accept(matches, m);
+            }
+        }
+    }
+
+    /** View names accepted by {@link #tables}. */
+    List<String> names() {
+        return new ArrayList<>(views.keySet());
+    }
+
+    /**
+     * Home and away records of a view; {@code month} (yyyy-MM) picks the month for {@link #MONTH}.
+     * Null for an unknown view, or the month view without a month or for a month with no matches.
+     */
+    TeamTable[] tables(String view, String month) {
+        if (MONTH.equals(view)) {
+            return month == null ? null : months.tables(month);
+        }
+        View found = views.get(view);
+        return found == null ? null : new TeamTable[]{found.home, found.away};
+    }
+
+    /** Whether any match was played in {@code month} (yyyy-MM). */
+    boolean hasMonth(String month) {
+        return months.byMonth.containsKey(month);
+    }
+
+    private abstract static class View {
+        final TeamTable home;
+        final TeamTable away;
+
+        View(int teams) {
+            home = new TeamTable(teams);
+            away = new TeamTable(teams);
+        }
+
+        abstract void accept(MatchStore s, int m);
+
+        void add(int homeTeam, int awayTeam, int homeGoals, int awayGoals) {
+            home.apply(homeTeam, homeGoals, awayGoals);
+            away.apply(awayTeam, awayGoals, homeGoals);
+        }
+    }
+
+    // One pair of tables per calendar month with results, keyed "yyyy-MM".
+    private static final class MonthView extends View {
+        private final int teams;
+        private final Map<Integer, String> keyByDay = new HashMap<>();
+        private final Map<String, TeamTable[]> byMonth = new HashMap<>();
+
+        MonthView(int teams) {
+            super(0);
+            this.teams = teams;
+        }
+
+        @Override
+        void accept(MatchStore s, int m) {
+            int day = s.date(m);
+            if (day == MatchStore.UNKNOWN_DATE) {
+                return;
+            }
+            String key = keyByDay.computeIfAbsent(day, d -> LocalDate.ofEpochDay(d).toString().substring(0, 7));
+            TeamTable[] tables = byMonth.computeIfAbsent(key, k -> new TeamTable[]{new TeamTable(teams), new TeamTable(teams)});
+            tables[0].apply(s.home(m), s.homeGoals(m), s.awayGoals(m));
+            tables[1].apply(s.away(m), s.awayGoals(m), s.homeGoals(m));
+        }
+
+        TeamTable[] tables(String month) {
+            return byMonth.get(month);
+        }
+    }
+}
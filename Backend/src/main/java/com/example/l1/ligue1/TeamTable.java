@@ -0,0 +1,96 @@
+package com.example.l1.ligue1;
+
+import java.util.Arrays;
+
+/** Per-team league-table counters, one primitive column per field, indexed by {@link MatchStore} team id. */
+final class TeamTable {
+    final int[] mp;
+    final int[] w;
+    final int[] d;
+    final int[] l;
+    final int[] gf;
+    final int[] ga;
+    final int[] pts;
+
+    TeamTable(int teams) {
+        mp = new int[teams];
+        w = new int[teams];
+        d = new int[teams];
+        l = new int[teams];
+        gf = new int[teams];
+        ga = new int[teams];
+        pts = new int[teams];
+    }
+
+    private TeamTable(TeamTable other) {
+        mp = other.mp.clone();
+        w = other.w.clone();
+        d = other.d.clone();
+        l = other.l.clone();
+        gf = other.gf.clone();
+        ga = other.ga.clone();
+        pts = other.pts.clone();
+    }
+
+    int teams() {
+        return mp.length;
+    }
+
+    void apply(int team, int goalsFor, int goalsAgainst) {
+        mp[team]++;
+        gf[team] += goalsFor;
+        ga[team] += goalsAgainst;
+        if (goalsFor > goalsAgainst) {
+            w[team]++;
+            pts[team] += 3;
+        } else if (goalsFor == goalsAgainst) {
+            d[team]++;
+            pts[team] += 1;
+        } else {
+            l[team]++;
+        }
+    }
+
+    TeamTable copy() {
+        return new TeamTable(this);
+    }
+
+    /** Field-by-field sum, e.g. home plus away records giving the overall table. */
+    TeamTable plus(TeamTable other) {
+        TeamTable sum = copy();
+        for (int t = 0; t < sum.teams(); t++) {
+            sum.mp[t] += other.mp[t];
+            sum.w[t] += other.w[t];
+            sum.d[t] += other.d[t];
+            sum.l[t] += other.l[t];
+            sum.gf[t] += other.gf[t];
+            sum.ga[t] += other.ga[t];
+            sum.pts[t] += other.pts[t];
+        }
+        return sum;
+    }
+
+    /** Team ids best first: points, goal difference, goals for, then name. */
+    int[] ranking(String[] sortKeys) {
+        Integer[] order = new Integer[teams()];
+        for (int t = 0; t < order.length; t++) {
+            order[t] = t;
+        }
+        Arrays.sort(order, (a, b) -> compare(a, b, sortKeys));
+        int[] out = new int[order.length];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = order[i];
+        }
+        return out;
+    }
+
+    private int compare(int a, int b, String[] sortKeys) {
+        int byPts = Integer.compare(pts[b], pts[a]);
+        if (byPts != 0) return byPts;
+        int byGd = Integer.compare(gf[b] - ga[b], gf[a] - ga[a]);
+        if (byGd != 0) return byGd;
+        int byGf = Integer.compare(gf[b], gf[a]);
+        if (byGf != 0) return byGf;
+        return sortKeys[a].compareTo(sortKeys[b]);
+    }
+}
@@ -74,8 +74,9 @@ public class Player {
         this.pos = pos;
     }
 
+    // A stat left out of a write, or null in the table, reads as 0.
     public int getAge() {
-        return age;
+        return age == null ? 0 : age;
     }
 
     public void setAge(int age) {
@@ -83,7 +84,7 @@ public class Player {
     }
 
     public int getMp() {
-        return mp;
+        return mp == null ? 0 : mp;
     }
 
     public void setMp(int mp) {
@@ -91,7 +92,7 @@ public class Player {
     }
 
     public int getStarts() {
-        return starts;
+        return starts == null ? 0 : starts;
     }
 
     public void setStarts(int starts) {
@@ -99,7 +100,7 @@ public class Player {
     }
 
     public double getMin() {
-        return min;
+        return min == null ? 0 : min;
     }
 
     public void setMin(double min) {
@@ -107,7 +108,7 @@ public class Player {
     }
 
     public double getGls() {
-        return gls;
+        return gls == null ? 0 : gls;
     }
 
     public void setGls(double gls) {
@@ -115,7 +116,7 @@ public class Player {
     }
 
     public double getAst() {
-        return ast;
+        return ast == null ? 0 : ast;
     }
 
     public void setAst(double ast) {
@@ -123,7 +124,7 @@ public class Player {
     }
 
     public double getPk() {
-        return pk;
+        return pk == null ? 0 : pk;
     }
 
     public void setPk(double pk) {
@@ -131,7 +132,7 @@ public class Player {
     }
 
     public double getCrdy() {
-        return crdy;
+        return crdy == null ? 0 : crdy;
     }
 
     public void setCrdy(double crdy) {
@@ -139,7 +140,7 @@ public class Player {
     }
 
     public double getCrdr() {
-        return crdr;
+        return crdr == null ? 0 : crdr;
     }
 
     public void setCrdr(double crdr) {
@@ -147,7 +148,7 @@ public class Player {
     }
 
     public double getXg() {
-        return xg;
+        return xg == null ? 0 : xg;
     }
 
     public void setXg(double xg) {
@@ -155,7 +156,7 @@ public class Player {
     }
 
     public double getXag() {
-        return xag;
+        return xag == null ? 0 : xag;
     }
 
     public void setXag(double xag) {
@@ -170,6 +171,21 @@ public class Player {
         this.team = team;
     }
 
+    /** Stats left out of a write read as 0, as they would in a CSV row that has them. */
+    void fillMissingStats() {
+        if (age == null) age = 0;
+        if (mp == null) mp = 0;
+        if (starts == null) starts = 0;
+        if (min == null) min = 0.0;
+        if (gls == null) gls = 0.0;
+        if (ast == null) ast = 0.0;
+        if (pk == null) pk = 0.0;
+        if (crdy == null) crdy = 0.0;
+        if (crdr == null) crdr = 0.0;
+        if (xg == null) xg = 0.0;
+        if (xag == null) xag = 0.0;
+    }
+
     @Override
     public String toString() {
         return "Player{" +
@@ -0,0 +1,85 @@
+package com.example.l1.player;
+
+import javax.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class PlayerBatchWriter {
+    private static final int BATCH_SIZE = 1000;
+    private static final String UPSERT_SQL =
+            "MERGE INTO player_stats (name, nation, pos, age, mp, starts, min, gls, ast, pk, crdy, crdr, xg, xag, team) "
+                    + "KEY (name) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_SQL = "DELETE FROM player_stats WHERE name = ?";
+    private static final String CREATE_CHECKSUMS_SQL =
+            "CREATE TABLE IF NOT EXISTS player_csv_checksum (name VARCHAR(255) PRIMARY KEY, hash BIGINT NOT NULL)";
+    private static final String SELECT_CHECKSUMS_SQL = "SELECT name, hash FROM player_csv_checksum";
+    private static final String UPSERT_CHECKSUM_SQL = "MERGE INTO player_csv_checksum (name, hash) KEY (name) VALUES (?, ?)";
+    private static final String DELETE_CHECKSUM_SQL = "DELETE FROM player_csv_checksum WHERE name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public PlayerBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Writes one ingest's upserts, deletes and checksums atomically, so the checksum table never
+     * claims a row is stored when the write of that row was lost.
+     */
+    @Transactional
+    public void applyChanges(List<Player> changed, Collection<String> removed, Map<String, Long> changedHashes) {
+        upsertAll(changed);
+        deleteAll(removed);
+        saveChecksums(changedHashes, removed);
+    }
+
+    public void upsertAll(List<Player> players) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, players, BATCH_SIZE, (ps, player) -> {
+            ps.setString(1, player.getName());
+            ps.setString(2, player.getNation());
+            ps.setString(3, player.getPos());
+            ps.setInt(4, player.getAge());
+            ps.setInt(5, player.getMp());
+            ps.setInt(6, player.getStarts());
+            ps.setDouble(7, player.getMin());
+            ps.setDouble(8, player.getGls());
+            ps.setDouble(9, player.getAst());
+            ps.setDouble(10, player.getPk());
+            ps.setDouble(11, player.getCrdy());
+            ps.setDouble(12, player.getCrdr());
+            ps.setDouble(13, player.getXg());
+            ps.setDouble(14, player.getXag());
+            ps.setString(15, player.getTeam());
+        });
+    }
+
+    public void deleteAll(Collection<String> names) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, new ArrayList<>(names), BATCH_SIZE, (ps, name) -> ps.setString(1, name));
+    }
+
+    public Map<String, Long> loadChecksums() {
+        jdbcTemplate.execute(CREATE_CHECKSUMS_SQL);
+        Map<String, Long> out = new HashMap<>();
+        jdbcTemplate.query(SELECT_CHECKSUMS_SQL, rs -> {
+            out.put(rs.getString(1), rs.getLong(2));
+        });
+        return out;
+    }
+
+    public void saveChecksums(Map<String, Long> changed, Collection<String> removed) {
+        jdbcTemplate.batchUpdate(UPSERT_CHECKSUM_SQL, new ArrayList<>(changed.entrySet()), BATCH_SIZE, (ps, e) -> {
+            ps.setString(1, e.getKey());
+            ps.setLong(2, e.getValue());
+        });
+        jdbcTemplate.batchUpdate(DELETE_CHECKSUM_SQL, new ArrayList<>(removed), BATCH_SIZE, (ps, name) -> ps.setString(1, name));
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.l1.player;
+
+import java.util.Collection;
+
+public interface PlayerChangeListener {
+
+    void playersLoaded(Collection<Player> players);
+
+    void playerSaved(Player player);
+
+    void playerRemoved(String name);
+}
@@ -1,29 +1,143 @@
 package com.example.l1.player;
 
+import com.example.l1.DataVersion;
+import com.example.l1.ResponseCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping(path = "api/v1/player")
 public class PlayerController {
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_LEADERS = 100;
+
     private final PlayerService playerService;
+    private final PlayerCsvIngester playerCsvIngester;
+    private final PlayerListWriter playerListWriter;
+    private final PlayerScores playerScores;
+    private final DataVersion dataVersion;
+    private final ResponseCache responseCache;
 
+    // Every GET first answers If-None-Match against the data version, so an unchanged page costs a header check.
     @Autowired
-    public PlayerController(PlayerService playerService) {
+    public PlayerController(PlayerService playerService, PlayerCsvIngester playerCsvIngester,
+                            PlayerListWriter playerListWriter, PlayerScores playerScores, DataVersion dataVersion,
+                            ResponseCache responseCache) {
         this.playerService = playerService;
+        this.playerCsvIngester = playerCsvIngester;
+        this.playerListWriter = playerListWriter;
+        this.playerScores = playerScores;
+        this.dataVersion = dataVersion;
+        this.responseCache = responseCache;
     }
 
     @GetMapping
-    public List<Player> getPlayers(
+    public ResponseEntity<StreamingResponseBody> getPlayers(
             @RequestParam(required = false) String team,
             @RequestParam(required = false) String name,
             @RequestParam(required = false) String position,
-            @RequestParam(required = false) String nation) {
+            @RequestParam(required = false) String nation,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String fields,
+            WebRequest request) throws IOException {
+        if (team != null && name == null && position == null && nation == null
+                && page == null && size == null && sort == null && fields == null) {
+            // The team pages are the hot path: serve finished bytes from the response cache.
+            String key = "players?team=" + team;
+            ResponseEntity<byte[]> cached = responseCache.respond(request, DataVersion.Scope.PLAYERS, key, () -> {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                playerListWriter.writeAll(out, playerService.getPlayersFromTeam(team));
+                return out.toByteArray();
+            });
+            if (cached == null) {
+                return null;
+            }
+            byte[] body = cached.getBody();
+            return ResponseEntity.status(cached.getStatusCode()).headers(cached.getHeaders()).body(out -> out.write(body));
+        }
+        if (request.checkNotModified(dataVersion.etag(DataVersion.Scope.PLAYERS))) {
+            return null;
+        }
+        List<Player> players = filterPlayers(team, name, position, nation);
+        if (page == null && size == null && sort == null && fields == null) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> playerListWriter.writeAll(out, players));
+        }
+
+        List<PlayerField> selected = new ArrayList<>();
+        if (fields == null) {
+            selected.addAll(Arrays.asList(PlayerField.values()));
+        } else {
+            for (String key : fields.split(",")) {
+                PlayerField field = PlayerField.fromKey(key);
+                if (field == null) {
+                    return badRequest("Unknown field: " + key);
+                }
+                selected.add(field);
+            }
+        }
+
+        Comparator<Player> order = null;
+        if (sort != null) {
+            String[] parts = sort.split(",");
+            PlayerField field = PlayerField.fromKey(parts[0]);
+            if (field == null) {
+                return badRequest("Unknown sort field: " + parts[0]);
+            }
+            order = field.comparator(playerScores);
+            if (parts.length > 1 && "desc".equalsIgnoreCase(parts[1].trim())) {
+                order = order.reversed();
+            }
+            order = order.thenComparing(Player::getName);
+        }
 
+        Integer pageIndex = null;
+        Integer pageSize = null;
+        int offset = 0;
+        int limit = players.size();
+        if (page != null || size != null) {
+            pageIndex = page == null ? 0 : page;
+            pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+            if (pageIndex < 0 || pageSize <= 0) {
+                return badRequest("page must be >= 0 and size > 0");
+            }
+            offset = (int) Math.min(Integer.MAX_VALUE, (long) pageIndex * pageSize);
+            limit = pageSize;
+        }
+
+        List<Player> slice = playerService.page(players, order, offset, limit);
+        Integer responsePage = pageIndex;
+        Integer responseSize = pageSize;
+        int total = players.size();
+        StreamingResponseBody body = out -> playerListWriter.write(out, responsePage, responseSize, total, slice, selected, playerScores);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private ResponseEntity<StreamingResponseBody> badRequest(String message) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(out -> out.write(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private List<Player> filterPlayers(String team, String name, String position, String nation) {
         if (team != null && position != null) {
             return playerService.getPlayersByTeamAndPosition(team, position);
         } else if (team != null) {
@@ -38,6 +152,65 @@ public class PlayerController {
             return playerService.getPlayers();
         }
     }
+    @GetMapping("/search")
+    public List<Player> searchPlayers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit,
+            WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag(DataVersion.Scope.PLAYERS))) {
+            return null;
+        }
+        return playerService.searchPlayers(q, limit);
+    }
+    @GetMapping("/leaders")
+    public ResponseEntity<List<Leader>> leaders(
+            @RequestParam String stat,
+            @RequestParam(required = false) String pos,
+            @RequestParam(required = false) Double minMinutes,
+            @RequestParam(defaultValue = "10") int k,
+            WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag(DataVersion.Scope.PLAYERS))) {
+            return null;
+        }
+        PlayerStat playerStat = PlayerStat.fromKey(stat);
+        if (playerStat == null || k <= 0) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        double minimum = minMinutes == null ? playerStat.defaultMinMinutes() : minMinutes;
+        return new ResponseEntity<>(playerService.getLeaders(playerStat, pos, minimum, Math.min(k, MAX_LEADERS)), HttpStatus.OK);
+    }
+    @GetMapping("/percentiles")
+    public ResponseEntity<PercentileProfile> percentiles(
+            @RequestParam String name,
+            @RequestParam(required = false) String pos,
+            WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag(DataVersion.Scope.PLAYERS))) {
+            return null;
+        }
+        PercentileProfile profile = playerService.getPercentiles(name, pos);
+        if (profile == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(profile, HttpStatus.OK);
+    }
+    @GetMapping("/similar")
+    public ResponseEntity<List<SimilarPlayer>> similar(
+            @RequestParam String name,
+            @RequestParam(required = false) String pos,
+            @RequestParam(defaultValue = "10") int k,
+            WebRequest request) {
+        if (request.checkNotModified(dataVersion.etag(DataVersion.Scope.PLAYERS))) {
+            return null;
+        }
+        if (k <= 0) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        List<SimilarPlayer> similar = playerService.getSimilarPlayers(name, pos, Math.min(k, MAX_LEADERS));
+        if (similar == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return new ResponseEntity<>(similar, HttpStatus.OK);
+    }
     @PostMapping
     public ResponseEntity<Player> addPlayer(@RequestBody Player player){
         Player createdPlayer = playerService.addPlayer(player);
@@ -52,9 +225,239 @@ public class PlayerController {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
+    @PostMapping("/reload")
+    public ReloadResult reload() {
+        return playerCsvIngester.ingest();
+    }
     @DeleteMapping("/{playerName}")
     public ResponseEntity<String> deletePlayer(@PathVariable String playerName) {
         playerService.deletePlayer(playerName);
         return new ResponseEntity<>("Player deleted successfully", HttpStatus.OK);
     }
+
+    public static class ReloadResult {
+        private int rows;
+        private int changed;
+        private int removed;
+        private int rejected;
+        private long millis;
+
+        public ReloadResult() {
+        }
+
+        public ReloadResult(int rows, int changed, int removed, int rejected, long millis) {
+            this.rows = rows;
+            this.changed = changed;
+            this.removed = removed;
+            this.rejected = rejected;
+            this.millis = millis;
+        }
+
+        public int getRows() {
+            return rows;
+        }
+
+        public void setRows(int rows) {
+            this.rows = rows;
+        }
+
+        public int getChanged() {
+            return changed;
+        }
+
+        public void setChanged(int changed) {
+            this.changed = changed;
+        }
+
+        public int getRemoved() {
+            return removed;
+        }
+
+        public void setRemoved(int removed) {
+            this.removed = removed;
+        }
+
+        public int getRejected() {
+            return rejected;
+        }
+
+        public void setRejected(int rejected) {
+            this.rejected = rejected;
+        }
+
+        public long getMillis() {
+            return millis;
+        }
+
+        public void setMillis(long millis) {
+            this.millis = millis;
+        }
+    }
+
+    public static class Leader {
+        private int rank;
+        private String name;
+        private String team;
+        private String pos;
+        private double value;
+
+        public Leader() {
+        }
+
+        public Leader(int rank, String name, String team, String pos, double value) {
+            this.rank = rank;
+            this.name = name;
+            this.team = team;
+            this.pos = pos;
+            this.value = value;
+        }
+
+        public int getRank() {
+            return rank;
+        }
+
+        public void setRank(int rank) {
+            this.rank = rank;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getTeam() {
+            return team;
+        }
+
+        public void setTeam(String team) {
+            this.team = team;
+        }
+
+        public String getPos() {
+            return pos;
+        }
+
+        public void setPos(String pos) {
+            this.pos = pos;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        public void setValue(double value) {
+            this.value = value;
+        }
+    }
+
+    public static class PercentileProfile {
+        private String name;
+        private String team;
+        private String position;
+        private int peers;
+        private Map<String, Double> percentiles;
+
+        public PercentileProfile() {
+        }
+
+        public PercentileProfile(String name, String team, String position, int peers, Map<String, Double> percentiles) {
+            this.name = name;
+            this.team = team;
+            this.position = position;
+            this.peers = peers;
+            this.percentiles = percentiles;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getTeam() {
+            return team;
+        }
+
+        public void setTeam(String team) {
+            this.team = team;
+        }
+
+        public String getPosition() {
+            return position;
+        }
+
+        public void setPosition(String position) {
+            this.position = position;
+        }
+
+        public int getPeers() {
+            return peers;
+        }
+
+        public void setPeers(int peers) {
+            this.peers = peers;
+        }
+
+        public Map<String, Double> getPercentiles() {
+            return percentiles;
+        }
+
+        public void setPercentiles(Map<String, Double> percentiles) {
+            this.percentiles = percentiles;
+        }
+    }
+
+    public static class SimilarPlayer {
+        private String name;
+        private String team;
+        private String pos;
+        private double distance;
+
+        public SimilarPlayer() {
+        }
+
+        public SimilarPlayer(String name, String team, String pos, double distance) {
+            this.name = name;
+            this.team = team;
+            this.pos = pos;
+            this.distance = distance;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getTeam() {
+            return team;
+        }
+
+        public void setTeam(String team) {
+            this.team = team;
+        }
+
+        public String getPos() {
+            return pos;
+        }
+
+        public void setPos(String pos) {
+            this.pos = pos;
+        }
+
+        public double getDistance() {
+            return distance;
+        }
+
+        public void setDistance(double distance) {
+            this.distance = distance;
+        }
+    }
 }
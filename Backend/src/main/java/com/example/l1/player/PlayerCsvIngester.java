@@ -0,0 +1,201 @@
+package com.example.l1.player;
+
+import com.example.l1.CsvLine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Loads ligue1_stats.csv into the player table. A content hash per player name is kept in
+ * player_csv_checksum so a re-ingest only parses, writes and publishes the rows that changed. A row that
+ * does not parse is logged, counted in the result and left out of the write; the table keeps whatever it
+ * held for that name, and the row is reported again on every ingest until it is fixed.
+ */
+@Service
+public class PlayerCsvIngester {
+    private static final Logger log = LoggerFactory.getLogger(PlayerCsvIngester.class);
+    static final int CHUNK_SIZE = 10000;
+    private static final int FIELDS = 15;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final PlayerBatchWriter playerBatchWriter;
+    private final PlayerService playerService;
+    private final Path csvPath;
+    private Map<String, Long> checksums;
+
+    @Autowired
+    public PlayerCsvIngester(PlayerBatchWriter playerBatchWriter,
+                             PlayerService playerService,
+                             @Value("${l1.player-csv:../ligue1_stats.csv}") String csvFile) {
+        this.playerBatchWriter = playerBatchWriter;
+        this.playerService = playerService;
+        this.csvPath = Paths.get(csvFile);
+    }
+
+    public Path getCsvPath() {
+        return csvPath;
+    }
+
+    public synchronized PlayerController.ReloadResult ingest() {
+        long startedAt = System.nanoTime();
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(csvPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.error("Error reading player CSV {}", csvPath, e);
+            return new PlayerController.ReloadResult(0, 0, 0, 0, 0);
+        }
+        if (checksums == null) {
+            checksums = playerBatchWriter.loadChecksums();
+        }
+        boolean firstLoad = checksums.isEmpty();
+
+        // Later rows win, matching the old save-per-row behaviour for duplicate names.
+        Map<String, String> lineByName = new LinkedHashMap<>();
+        int rejected = 0;
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            String name = CsvLine.firstField(line);
+            if (name.isEmpty()) {
+                log.warn("Skipping player CSV line {}: no player name", i + 1);
+                rejected++;
+            } else {
+                lineByName.put(name, line);
+            }
+        }
+
+        Map<String, Long> newHashes = new HashMap<>();
+        List<String> changedLines = new ArrayList<>();
+        for (Map.Entry<String, String> e : lineByName.entrySet()) {
+            long hash = hash(e.getValue());
+            Long previous = checksums.get(e.getKey());
+            if (previous == null || previous != hash) {
+                newHashes.put(e.getKey(), hash);
+                changedLines.add(e.getValue());
+            }
+        }
+        List<String> removed = new ArrayList<>();
+        for (String name : checksums.keySet()) {
+            if (!lineByName.containsKey(name)) {
+                removed.add(name);
+            }
+        }
+
+        List<Player> changed = parseInChunks(changedLines);
+        rejected += changedLines.size() - changed.size();
+        Map<String, Long> changedHashes = new HashMap<>();
+        for (Player player : changed) {
+            changedHashes.put(player.getName(), newHashes.get(player.getName()));
+        }
+
+        playerBatchWriter.applyChanges(changed, removed, changedHashes);
+        checksums.putAll(changedHashes);
+        checksums.keySet().removeAll(removed);
+
+        if (firstLoad) {
+            playerService.reload(changed);
+        } else {
+            playerService.applyChanges(changed, removed);
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        log.info(String.format(Locale.ROOT,
+                "Ingested %d player rows from CSV in %.3f s (%.0f rows/s): %d changed, %d removed, %d rejected",
+                lineByName.size(), seconds, lineByName.size() / Math.max(seconds, 1e-9), changed.size(), removed.size(),
+                rejected));
+        return new PlayerController.ReloadResult(lineByName.size(), changed.size(), removed.size(), rejected,
+                elapsedNanos / 1_000_000);
+    }
+
+    private List<Player> parseInChunks(List<String> rows) {
+        int chunks = (rows.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(c -> parseChunk(rows.subList(c * CHUNK_SIZE, Math.min(rows.size(), (c + 1) * CHUNK_SIZE))))
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    private List<Player> parseChunk(List<String> chunk) {
+        List<Player> out = new ArrayList<>(chunk.size());
+        for (String line : chunk) {
+            Player player = parsePlayer(line);
+            if (player != null) {
+                out.add(player);
+            }
+        }
+        return out;
+    }
+
+    private Player parsePlayer(String line) {
+        String[] data = CsvLine.split(line);
+        if (data.length < FIELDS) {
+            log.warn("Skipping player CSV row with {} of {} fields: {}", data.length, FIELDS, line);
+            return null;
+        }
+        try {
+            Player player = new Player();
+            player.setName(data[0]);
+            player.setNation(data[1]);
+            player.setPos(data[2]);
+            player.setAge(parseIntSafe(data[3]));
+            player.setMp(parseIntSafe(data[4]));
+            player.setStarts(parseIntSafe(data[5]));
+            player.setMin(parseDoubleSafe(data[6]));
+            player.setGls(parseDoubleSafe(data[7]));
+            player.setAst(parseDoubleSafe(data[8]));
+            player.setPk(parseDoubleSafe(data[9]));
+            player.setCrdy(parseDoubleSafe(data[10]));
+            player.setCrdr(parseDoubleSafe(data[11]));
+            player.setXg(parseDoubleSafe(data[12]));
+            player.setXag(parseDoubleSafe(data[13]));
+            player.setTeam(data[14]);
+            return player;
+        } catch (NumberFormatException e) {
+            log.warn("Skipping player CSV row, {}: {}", e.getMessage(), line);
+            return null;
+        }
+    }
+
+    private static long hash(String line) {
+        long h = FNV_OFFSET;
+        for (int i = 0; i < line.length(); i++) {
+            h ^= line.charAt(i);
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+
+    // A blank stat reads as 0; anything else that is not a number rejects the row.
+    private int parseIntSafe(String value) {
+        return (int) parseDoubleSafe(value);
+    }
+
+    private double parseDoubleSafe(String value) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return 0.0;
+        }
+        try {
+            return Double.parseDouble(trimmed);
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException("not a number: '" + trimmed + "'");
+        }
+    }
+}
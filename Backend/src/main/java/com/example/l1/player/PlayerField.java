@@ -0,0 +1,81 @@
+package com.example.l1.player;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+public enum PlayerField {
+    NAME("name", false, Player::getName),
+    NATION("nation", false, Player::getNation),
+    POS("pos", false, Player::getPos),
+    AGE("age", true, Player::getAge),
+    MP("mp", true, Player::getMp),
+    STARTS("starts", true, Player::getStarts),
+    MIN("min", true, Player::getMin),
+    GLS("gls", true, Player::getGls),
+    AST("ast", true, Player::getAst),
+    PK("pk", true, Player::getPk),
+    CRDY("crdy", true, Player::getCrdy),
+    CRDR("crdr", true, Player::getCrdr),
+    XG("xg", true, Player::getXg),
+    XAG("xag", true, Player::getXag),
+    TEAM("team", false, Player::getTeam),
+    POINTS("points", true, null);
+
+    private static final Map<String, PlayerField> BY_KEY = new HashMap<>();
+
+    static {
+        for (PlayerField field : values()) {
+            BY_KEY.put(field.key, field);
+        }
+    }
+
+    private final String key;
+    private final boolean numeric;
+    private final Function<Player, Object> getter;
+
+    PlayerField(String key, boolean numeric, Function<Player, Object> getter) {
+        this.key = key;
+        this.numeric = numeric;
+        this.getter = getter;
+    }
+
+    public static PlayerField fromKey(String key) {
+        return key == null ? null : BY_KEY.get(key.trim().toLowerCase(Locale.ROOT));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public boolean isNumeric() {
+        return numeric;
+    }
+
+    // Fantasy points are not stored on the entity; they come from the scoring engine.
+    public Object valueOf(Player player, PlayerScores scores) {
+        return getter == null ? scores.pointsOf(player) : getter.apply(player);
+    }
+
+    // Null-safe for every field: a missing value sorts after all present ones in ascending order.
+    public Comparator<Player> comparator(PlayerScores scores) {
+        if (getter == null) {
+            return Comparator.comparingDouble(scores::pointsOf);
+        }
+        if (numeric) {
+            return Comparator.comparing(p -> (Number) getter.apply(p),
+                    Comparator.nullsLast(Comparator.comparingDouble(Number::doubleValue)));
+        }
+        return Comparator.comparing(p -> (String) getter.apply(p), Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+    }
+
+    public void write(JsonGenerator generator, Player player, PlayerScores scores) throws IOException {
+        generator.writeFieldName(key);
+        generator.writeObject(valueOf(player, scores));
+    }
+}
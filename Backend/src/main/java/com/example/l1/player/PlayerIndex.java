@@ -0,0 +1,287 @@
+package com.example.l1.player;
+
+import com.example.l1.TextNormalizer;
+import com.example.l1.team.TeamResolver;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Read-side copy of the player table with hash indexes on team, position token,
+ * nation code and team+position token, so filtered reads cost the size of the result.
+ * Team keys are exact names from {@link TeamResolver} (aliases, no fuzzy guess), rebuilt when it registers
+ * new teams; lookups fall back to the resolver's fuzzy match only when no bucket has the exact name.
+ */
+@Component
+public class PlayerIndex implements PlayerChangeListener {
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final TeamResolver teamResolver;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Entry> byName = new LinkedHashMap<>();
+    private final Map<String, Map<String, Player>> byTeam = new HashMap<>();
+    private final Map<String, Map<String, Player>> byPosToken = new HashMap<>();
+    private final Map<String, Map<String, Player>> byPosValue = new HashMap<>();
+    private final Map<String, Map<String, Player>> byNationCode = new HashMap<>();
+    private final Map<String, Map<String, Player>> byNationValue = new HashMap<>();
+    private final Map<String, Map<String, Player>> byTeamAndPosToken = new HashMap<>();
+    private volatile int keyedGeneration;
+
+    public PlayerIndex(TeamResolver teamResolver) {
+        this.teamResolver = teamResolver;
+    }
+
+    @Override
+    public void playersLoaded(Collection<Player> players) {
+        lock.writeLock().lock();
+        try {
+            rebuild(players);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void playerSaved(Player player) {
+        lock.writeLock().lock();
+        try {
+            delete(player.getName());
+            insert(player);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void playerRemoved(String name) {
+        lock.writeLock().lock();
+        try {
+            delete(name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byName.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Player> all() {
+        lock.readLock().lock();
+        try {
+            List<Player> out = new ArrayList<>(byName.size());
+            for (Entry entry : byName.values()) {
+                out.add(entry.player);
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Player byName(String name) {
+        lock.readLock().lock();
+        try {
+            Entry entry = byName.get(name);
+            return entry == null ? null : entry.player;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Player> byTeam(String team) {
+        refreshTeamKeys();
+        lock.readLock().lock();
+        try {
+            return copyOf(byTeam.get(teamKey(team)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Player> byPosition(String position) {
+        lock.readLock().lock();
+        try {
+            Map<String, Player> bucket = byPosToken.get(token(position));
+            if (bucket != null) {
+                return copyOf(bucket);
+            }
+            return containsLookup(byPosValue, position);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Player> byNation(String nation) {
+        lock.readLock().lock();
+        try {
+            Map<String, Player> bucket = byNationCode.get(token(nation));
+            if (bucket != null) {
+                return copyOf(bucket);
+            }
+            return containsLookup(byNationValue, nation);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Player> byTeamAndPosition(String team, String position) {
+        refreshTeamKeys();
+        lock.readLock().lock();
+        try {
+            return copyOf(byTeamAndPosToken.get(teamKey(team) + KEY_SEPARATOR + token(position)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Teams registered since the keys were built may now own a spelling that was keyed by its normalised form.
+    private void refreshTeamKeys() {
+        if (teamResolver.generation() == keyedGeneration) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (teamResolver.generation() != keyedGeneration) {
+                List<Player> players = new ArrayList<>(byName.size());
+                for (Entry entry : byName.values()) {
+                    players.add(entry.player);
+                }
+                rebuild(players);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rebuild(Collection<Player> players) {
+        keyedGeneration = teamResolver.generation();
+        byName.clear();
+        byTeam.clear();
+        byPosToken.clear();
+        byPosValue.clear();
+        byNationCode.clear();
+        byNationValue.clear();
+        byTeamAndPosToken.clear();
+        for (Player player : players) {
+            insert(player);
+        }
+    }
+
+    private void insert(Player player) {
+        Entry entry = new Entry(player, teamResolver.exactName(player.getTeam()));
+        byName.put(entry.name, entry);
+        add(byTeam, entry.team, entry);
+        add(byPosValue, entry.posValue, entry);
+        add(byNationValue, entry.nationValue, entry);
+        add(byNationCode, entry.nationCode, entry);
+        for (String posToken : entry.posTokens) {
+            add(byPosToken, posToken, entry);
+            add(byTeamAndPosToken, entry.team + KEY_SEPARATOR + posToken, entry);
+        }
+    }
+
+    private void delete(String name) {
+        Entry entry = byName.remove(name);
+        if (entry == null) {
+            return;
+        }
+        remove(byTeam, entry.team, entry);
+        remove(byPosValue, entry.posValue, entry);
+        remove(byNationValue, entry.nationValue, entry);
+        remove(byNationCode, entry.nationCode, entry);
+        for (String posToken : entry.posTokens) {
+            remove(byPosToken, posToken, entry);
+            remove(byTeamAndPosToken, entry.team + KEY_SEPARATOR + posToken, entry);
+        }
+    }
+
+    private static void add(Map<String, Map<String, Player>> index, String key, Entry entry) {
+        index.computeIfAbsent(key, k -> new LinkedHashMap<>()).put(entry.name, entry.player);
+    }
+
+    private static void remove(Map<String, Map<String, Player>> index, String key, Entry entry) {
+        Map<String, Player> bucket = index.get(key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.remove(entry.name);
+        if (bucket.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    // Unknown tokens fall back to an accent-folded substring match over the distinct values, not the rows.
+    private static List<Player> containsLookup(Map<String, Map<String, Player>> byValue, String searchText) {
+        String wanted = TextNormalizer.normalize(searchText);
+        List<Player> out = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Player>> e : byValue.entrySet()) {
+            if (e.getKey().contains(wanted)) {
+                out.addAll(e.getValue().values());
+            }
+        }
+        return out;
+    }
+
+    private static List<Player> copyOf(Map<String, Player> bucket) {
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket.values());
+    }
+
+    private String teamKey(String team) {
+        String exact = teamResolver.exactName(team);
+        return byTeam.containsKey(exact) ? exact : teamResolver.canonicalName(team);
+    }
+
+    private static String token(String s) {
+        return s == null ? "" : s.trim().toUpperCase(Locale.ROOT);
+    }
+
+    static Set<String> positionTokens(String pos) {
+        Set<String> out = new LinkedHashSet<>();
+        if (pos != null) {
+            for (String part : pos.split(",")) {
+                String posToken = token(part);
+                if (!posToken.isEmpty()) {
+                    out.add(posToken);
+                }
+            }
+        }
+        return out;
+    }
+
+    private static String nationCode(String nation) {
+        if (nation == null) {
+            return "";
+        }
+        String trimmed = nation.trim();
+        int space = trimmed.lastIndexOf(' ');
+        return token(space < 0 ? trimmed : trimmed.substring(space + 1));
+    }
+
+    private static class Entry {
+        final Player player;
+        final String name;
+        final String team;
+        final String posValue;
+        final String nationValue;
+        final String nationCode;
+        final Set<String> posTokens;
+
+        Entry(Player player, String team) {
+            this.player = player;
+            this.name = player.getName();
+            this.team = team;
+            this.posValue = TextNormalizer.normalize(player.getPos());
+            this.nationValue = TextNormalizer.normalize(player.getNation());
+            this.nationCode = nationCode(player.getNation());
+            this.posTokens = positionTokens(player.getPos());
+        }
+    }
+}
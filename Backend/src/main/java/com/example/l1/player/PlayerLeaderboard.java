@@ -0,0 +1,186 @@
+package com.example.l1.player;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Top-k queries per stat and position. Each (stat, position, minute floor) board is a sorted set built
+ * on first use and then maintained in O(log n) per player change. A board holds only players with at
+ * least its floor of minutes, so a minutes filter skips at most the players between the floor and the
+ * requested minimum instead of everyone below it.
+ */
+@Component
+public class PlayerLeaderboard implements PlayerChangeListener {
+    private static final String ALL_POSITIONS = "";
+    // Ascending; a query uses the board of the highest floor not above its minimum.
+    private static final double[] MINUTE_FLOORS = {0, 90, 450, 900, 1800};
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final Map<String, TreeSet<Entry>> boards = new HashMap<>();
+
+    @Override
+    public void playersLoaded(Collection<Player> players) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            boards.clear();
+            for (Player player : players) {
+                Entry entry = new Entry(player);
+                entries.put(entry.name, entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void playerSaved(Player player) {
+        lock.writeLock().lock();
+        try {
+            unlink(entries.remove(player.getName()));
+            Entry entry = new Entry(player);
+            entries.put(entry.name, entry);
+            for (TreeSet<Entry> board : boards.values()) {
+                if (((BoardOrder) board.comparator()).accepts(entry)) {
+                    board.add(entry);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void playerRemoved(String name) {
+        lock.writeLock().lock();
+        try {
+            unlink(entries.remove(name));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<PlayerController.Leader> leaders(PlayerStat stat, String position, double minMinutes, int k) {
+        String pos = position == null ? ALL_POSITIONS : position.trim().toUpperCase(Locale.ROOT);
+        double floor = minuteFloor(minMinutes);
+        String key = stat.getKey() + '\u0000' + pos + '\u0000' + floor;
+
+        lock.readLock().lock();
+        try {
+            TreeSet<Entry> board = boards.get(key);
+            if (board != null) {
+                return top(board, stat, minMinutes, k);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        lock.writeLock().lock();
+        try {
+            TreeSet<Entry> board = boards.get(key);
+            if (board == null) {
+                board = build(stat, pos, floor);
+                // Unknown positions are not cached so arbitrary query strings cannot pile up boards.
+                if (!board.isEmpty()) {
+                    boards.put(key, board);
+                }
+            }
+            return top(board, stat, minMinutes, k);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static double minuteFloor(double minMinutes) {
+        double floor = MINUTE_FLOORS[0];
+        for (double candidate : MINUTE_FLOORS) {
+            if (candidate <= minMinutes) {
+                floor = candidate;
+            }
+        }
+        return floor;
+    }
+
+    private TreeSet<Entry> build(PlayerStat stat, String pos, double floor) {
+        BoardOrder order = new BoardOrder(stat, pos, floor);
+        TreeSet<Entry> board = new TreeSet<>(order);
+        for (Entry entry : entries.values()) {
+            if (order.accepts(entry)) {
+                board.add(entry);
+            }
+        }
+        return board;
+    }
+
+    private void unlink(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        for (TreeSet<Entry> board : boards.values()) {
+            board.remove(entry);
+        }
+    }
+
+    private static List<PlayerController.Leader> top(TreeSet<Entry> board, PlayerStat stat, double minMinutes, int k) {
+        List<PlayerController.Leader> out = new ArrayList<>(Math.min(k, board.size()));
+        for (Entry entry : board) {
+            if (out.size() >= k) {
+                break;
+            }
+            if (entry.minutes < minMinutes) {
+                continue;
+            }
+            Player p = entry.player;
+            out.add(new PlayerController.Leader(out.size() + 1, p.getName(), p.getTeam(), p.getPos(), entry.values[stat.ordinal()]));
+        }
+        return out;
+    }
+
+    private static class BoardOrder implements Comparator<Entry> {
+        final int stat;
+        final String pos;
+        final double minMinutes;
+
+        BoardOrder(PlayerStat stat, String pos, double minMinutes) {
+            this.stat = stat.ordinal();
+            this.pos = pos;
+            this.minMinutes = minMinutes;
+        }
+
+        boolean accepts(Entry entry) {
+            return entry.minutes >= minMinutes && (ALL_POSITIONS.equals(pos) || entry.positions.contains(pos));
+        }
+
+        @Override
+        public int compare(Entry a, Entry b) {
+            int byValue = Double.compare(b.values[stat], a.values[stat]);
+            if (byValue != 0) return byValue;
+            return a.name.compareTo(b.name);
+        }
+    }
+
+    // Stat values are captured once so a board can always find the entry it sorted.
+    private static class Entry {
+        final Player player;
+        final String name;
+        final Set<String> positions;
+        final double minutes;
+        final double[] values;
+
+        Entry(Player player) {
+            this.player = player;
+            this.name = player.getName();
+            this.positions = PlayerIndex.positionTokens(player.getPos());
+            this.minutes = player.getMin();
+            PlayerStat[] stats = PlayerStat.values();
+            this.values = new double[stats.length];
+            for (PlayerStat stat : stats) {
+                values[stat.ordinal()] = stat.valueOf(player);
+            }
+        }
+    }
+}
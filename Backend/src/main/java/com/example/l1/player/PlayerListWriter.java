@@ -0,0 +1,50 @@
+package com.example.l1.player;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Writes player lists straight to the response stream; pages emit only the requested fields.
+ */
+@Component
+public class PlayerListWriter {
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public PlayerListWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public void writeAll(OutputStream out, List<Player> players) throws IOException {
+        objectMapper.writeValue(out, players);
+    }
+
+    public void write(OutputStream out, Integer page, Integer size, int total, List<Player> players, List<PlayerField> fields,
+                      PlayerScores scores) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            if (page != null) {
+                generator.writeNumberField("page", page);
+                generator.writeNumberField("size", size);
+            }
+            generator.writeNumberField("total", total);
+            generator.writeArrayFieldStart("players");
+            for (Player player : players) {
+                generator.writeStartObject();
+                for (PlayerField field : fields) {
+                    field.write(generator, player, scores);
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
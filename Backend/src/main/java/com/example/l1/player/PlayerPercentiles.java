@@ -0,0 +1,216 @@
+package com.example.l1.player;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Percentile ranks per (position, stat). Each pair keeps a sorted primitive array, so a rank is
+ * two binary searches and a player change shifts one slot per array instead of re-sorting.
+ */
+@Component
+public class PlayerPercentiles implements PlayerChangeListener {
+    private static final String ALL_POSITIONS = "ALL";
+    private static final PlayerStat[] STATS = PlayerStat.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final Map<String, Column[]> groups = new HashMap<>();
+
+    @Override
+    public void playersLoaded(Collection<Player> players) {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            groups.clear();
+            Map<String, List<Entry>> members = new HashMap<>();
+            for (Player player : players) {
+                Entry entry = new Entry(player);
+                entries.put(player.getName(), entry);
+                for (String group : entry.groups) {
+                    members.computeIfAbsent(group, k -> new ArrayList<>()).add(entry);
+                }
+            }
+            for (Map.Entry<String, List<Entry>> e : members.entrySet()) {
+                Column[] columns = new Column[STATS.length];
+                for (int s = 0; s < STATS.length; s++) {
+                    double[] values = new double[e.getValue().size()];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = e.getValue().get(i).values[s];
+                    }
+                    Arrays.sort(values);
+                    columns[s] = new Column(values);
+                }
+                groups.put(e.getKey(), columns);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void playerSaved(Player player) {
+        lock.writeLock().lock();
+        try {
+            unlink(entries.remove(player.getName()));
+            Entry entry = new Entry(player);
+            entries.put(player.getName(), entry);
+            for (String group : entry.groups) {
+                Column[] columns = groups.computeIfAbsent(group, k -> emptyColumns());
+                for (int s = 0; s < STATS.length; s++) {
+                    columns[s].insert(entry.values[s]);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void playerRemoved(String name) {
+        lock.writeLock().lock();
+        try {
+            unlink(entries.remove(name));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public PlayerController.PercentileProfile profile(String name, String position) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(name);
+            if (entry == null) {
+                return null;
+            }
+            String group = position == null ? entry.primaryGroup : position.trim().toUpperCase(Locale.ROOT);
+            Column[] columns = groups.get(group);
+            if (columns == null) {
+                return null;
+            }
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            for (int s = 0; s < STATS.length; s++) {
+                percentiles.put(STATS[s].getKey(), columns[s].percentile(entry.values[s]));
+            }
+            Player player = entry.player;
+            return new PlayerController.PercentileProfile(
+                    player.getName(), player.getTeam(), group, columns[0].size, percentiles);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unlink(Entry entry) {
+        if (entry == null) {
+            return;
+        }
+        for (String group : entry.groups) {
+            Column[] columns = groups.get(group);
+            if (columns == null) {
+                continue;
+            }
+            for (int s = 0; s < STATS.length; s++) {
+                columns[s].remove(entry.values[s]);
+            }
+            if (columns[0].size == 0) {
+                groups.remove(group);
+            }
+        }
+    }
+
+    private static Column[] emptyColumns() {
+        Column[] columns = new Column[STATS.length];
+        for (int s = 0; s < STATS.length; s++) {
+            columns[s] = new Column(new double[0]);
+        }
+        return columns;
+    }
+
+    private static class Column {
+        double[] values;
+        int size;
+
+        Column(double[] sorted) {
+            this.values = sorted;
+            this.size = sorted.length;
+        }
+
+        void insert(double value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(8, size * 2));
+            }
+            int at = lowerBound(value);
+            System.arraycopy(values, at, values, at + 1, size - at);
+            values[at] = value;
+            size++;
+        }
+
+        void remove(double value) {
+            int at = lowerBound(value);
+            if (at < size && Double.compare(values[at], value) == 0) {
+                System.arraycopy(values, at + 1, values, at, size - at - 1);
+                size--;
+            }
+        }
+
+        // Share of the group below the value, counting ties as half.
+        double percentile(double value) {
+            if (size == 0) {
+                return 0.0;
+            }
+            int below = lowerBound(value);
+            int equal = upperBound(value) - below;
+            double pct = (below + 0.5 * equal) * 100.0 / size;
+            return Math.round(pct * 10.0) / 10.0;
+        }
+
+        int lowerBound(double value) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (Double.compare(values[mid], value) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        int upperBound(double value) {
+            int lo = 0;
+            int hi = size;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (Double.compare(values[mid], value) <= 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+
+    private static class Entry {
+        final Player player;
+        final Set<String> groups;
+        final String primaryGroup;
+        final double[] values;
+
+        Entry(Player player) {
+            this.player = player;
+            Set<String> positions = PlayerIndex.positionTokens(player.getPos());
+            this.primaryGroup = positions.isEmpty() ? ALL_POSITIONS : positions.iterator().next();
+            this.groups = new LinkedHashSet<>(positions);
+            this.groups.add(ALL_POSITIONS);
+            this.values = new double[STATS.length];
+            for (PlayerStat stat : STATS) {
+                values[stat.ordinal()] = stat.valueOf(player);
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.l1.player;
+
+public interface PlayerScores {
+
+    double pointsOf(Player player);
+}
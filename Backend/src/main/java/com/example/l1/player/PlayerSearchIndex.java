@@ -0,0 +1,265 @@
+package com.example.l1.player;
+
+import com.example.l1.TextNormalizer;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Accent-insensitive n-gram index over player names. Queries are folded with
+ * {@link TextNormalizer#normalize(String)} and ranked exact, then prefix, then substring.
+ */
+@Component
+public class PlayerSearchIndex implements PlayerChangeListener {
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_PREFIX = 1;
+    private static final int RANK_SUBSTRING = 2;
+    private static final int MIN_COMPACT_TOMBSTONES = 1024;
+    private static final Comparator<Hit> HIT_ORDER = Comparator
+            .comparingInt((Hit h) -> h.rank)
+            .thenComparingInt(h -> h.doc.folded.length())
+            .thenComparing(h -> h.doc.folded);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Doc> docs = new ArrayList<>();
+    private final Map<String, Integer> idByName = new HashMap<>();
+    private final Map<String, IntList> unigrams = new HashMap<>();
+    private final Map<String, IntList> bigrams = new HashMap<>();
+    private final Map<String, IntList> trigrams = new HashMap<>();
+    private int tombstones = 0;
+
+    @Override
+    public void playersLoaded(Collection<Player> players) {
+        lock.writeLock().lock();
+        try {
+            rebuild(players);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void playerSaved(Player player) {
+        lock.writeLock().lock();
+        try {
+            delete(player.getName());
+            insert(player);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void playerRemoved(String name) {
+        lock.writeLock().lock();
+        try {
+            delete(name);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Player> search(String query, int limit) {
+        String wanted = TextNormalizer.normalize(query);
+        if (wanted.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            // Keep only the best `limit` hits: the head of the heap is the worst one kept, so a typeahead
+            // query matching tens of thousands of names costs O(n log limit) instead of a full sort.
+            PriorityQueue<Hit> best = new PriorityQueue<>(Math.min(limit, 64), HIT_ORDER.reversed());
+            for (int id : candidates(wanted)) {
+                Doc doc = docs.get(id);
+                if (doc == null) {
+                    continue;
+                }
+                int rank = doc.rank(wanted);
+                if (rank < 0) {
+                    continue;
+                }
+                Hit hit = new Hit(doc, rank);
+                if (best.size() < limit) {
+                    best.offer(hit);
+                } else if (HIT_ORDER.compare(hit, best.peek()) < 0) {
+                    best.poll();
+                    best.offer(hit);
+                }
+            }
+            List<Hit> hits = new ArrayList<>(best);
+            hits.sort(HIT_ORDER);
+
+            List<Player> out = new ArrayList<>(hits.size());
+            for (Hit hit : hits) {
+                out.add(hit.doc.player);
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Every query matches substrings, as ?name= always has; one- and two-character queries read a single posting.
+    private int[] candidates(String wanted) {
+        if (wanted.length() == 1) {
+            IntList ids = unigrams.get(wanted);
+            return ids == null ? new int[0] : ids.toArray();
+        }
+        if (wanted.length() == 2) {
+            IntList ids = bigrams.get(wanted);
+            return ids == null ? new int[0] : ids.toArray();
+        }
+
+        List<IntList> postings = new ArrayList<>();
+        for (String gram : grams(wanted, 3)) {
+            IntList ids = trigrams.get(gram);
+            if (ids == null) {
+                return new int[0];
+            }
+            postings.add(ids);
+        }
+        postings.sort(Comparator.comparingInt(IntList::size));
+
+        IntList smallest = postings.get(0);
+        IntList out = new IntList();
+        for (int i = 0; i < smallest.size(); i++) {
+            int id = smallest.get(i);
+            boolean inAll = true;
+            for (int p = 1; p < postings.size() && inAll; p++) {
+                inAll = postings.get(p).containsSorted(id);
+            }
+            if (inAll) {
+                out.add(id);
+            }
+        }
+        return out.toArray();
+    }
+
+    private void rebuild(Collection<Player> players) {
+        docs.clear();
+        idByName.clear();
+        unigrams.clear();
+        bigrams.clear();
+        trigrams.clear();
+        tombstones = 0;
+        for (Player player : players) {
+            insert(player);
+        }
+    }
+
+    private void insert(Player player) {
+        int id = docs.size();
+        Doc doc = new Doc(player);
+        docs.add(doc);
+        idByName.put(player.getName(), id);
+        for (String gram : grams(doc.folded, 1)) {
+            unigrams.computeIfAbsent(gram, k -> new IntList()).add(id);
+        }
+        for (String gram : grams(doc.folded, 2)) {
+            bigrams.computeIfAbsent(gram, k -> new IntList()).add(id);
+        }
+        for (String gram : grams(doc.folded, 3)) {
+            trigrams.computeIfAbsent(gram, k -> new IntList()).add(id);
+        }
+    }
+
+    // Postings keep dead ids until the next compaction; lookups skip them via the null doc.
+    private void delete(String name) {
+        Integer id = idByName.remove(name);
+        if (id != null) {
+            docs.set(id, null);
+            tombstones++;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (tombstones < MIN_COMPACT_TOMBSTONES || tombstones < idByName.size()) {
+            return;
+        }
+        List<Player> live = new ArrayList<>(idByName.size());
+        for (Doc doc : docs) {
+            if (doc != null) {
+                live.add(doc.player);
+            }
+        }
+        rebuild(live);
+    }
+
+    private static Set<String> grams(String s, int n) {
+        Set<String> out = new LinkedHashSet<>();
+        for (int i = 0; i + n <= s.length(); i++) {
+            out.add(s.substring(i, i + n));
+        }
+        return out;
+    }
+
+    private static class Doc {
+        final Player player;
+        final String folded;
+        final List<String> words;
+
+        Doc(Player player) {
+            this.player = player;
+            this.folded = TextNormalizer.normalize(player.getName());
+            this.words = TextNormalizer.words(player.getName());
+        }
+
+        int rank(String wanted) {
+            if (folded.equals(wanted)) {
+                return RANK_EXACT;
+            }
+            if (folded.startsWith(wanted)) {
+                return RANK_PREFIX;
+            }
+            for (String word : words) {
+                if (word.startsWith(wanted)) {
+                    return RANK_PREFIX;
+                }
+            }
+            return folded.contains(wanted) ? RANK_SUBSTRING : -1;
+        }
+    }
+
+    private static class Hit {
+        final Doc doc;
+        final int rank;
+
+        Hit(Doc doc, int rank) {
+            this.doc = doc;
+            this.rank = rank;
+        }
+    }
+
+    private static class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int i) {
+            return values[i];
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean containsSorted(int value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
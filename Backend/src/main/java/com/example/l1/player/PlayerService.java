@@ -1,61 +1,120 @@
 package com.example.l1.player;
 
+import com.example.l1.DataVersion;
 import javax.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
 
 @Component
 public class PlayerService {
 
 
     private final PlayerRepository playerRepository;
+    private final PlayerIndex playerIndex;
+    private final PlayerSearchIndex playerSearchIndex;
+    private final PlayerLeaderboard playerLeaderboard;
+    private final PlayerPercentiles playerPercentiles;
+    private final PlayerSimilarity playerSimilarity;
+    private final List<PlayerChangeListener> listeners;
+    private final DataVersion dataVersion;
+    private volatile boolean loaded = false;
 
     @Autowired
-    public PlayerService(PlayerRepository playerRepository) {
+    public PlayerService(PlayerRepository playerRepository, PlayerIndex playerIndex, PlayerSearchIndex playerSearchIndex,
+                         PlayerLeaderboard playerLeaderboard, PlayerPercentiles playerPercentiles,
+                         PlayerSimilarity playerSimilarity, List<PlayerChangeListener> listeners,
+                         DataVersion dataVersion) {
         this.playerRepository = playerRepository;
+        this.playerIndex = playerIndex;
+        this.playerSearchIndex = playerSearchIndex;
+        this.playerLeaderboard = playerLeaderboard;
+        this.playerPercentiles = playerPercentiles;
+        this.playerSimilarity = playerSimilarity;
+        this.listeners = listeners;
+        this.dataVersion = dataVersion;
     }
     public List<Player> getPlayers() {
-        return playerRepository.findAll();
+        return index().all();
     }
 
     public List<Player> getPlayersFromTeam(String teamName) {
-        return playerRepository.findAll().stream()
-                .filter(player -> teamName.equals(player.getTeam()))
-                .collect(Collectors.toList());
+        return index().byTeam(teamName);
     }
 
     public List<Player> getPlayersByName(String searchText) {
-        return playerRepository.findAll().stream()
-                .filter(player -> player.getName().toLowerCase().contains(searchText.toLowerCase()))
-                .collect(Collectors.toList());
+        return searchPlayers(searchText, Integer.MAX_VALUE);
+    }
+
+    public List<Player> searchPlayers(String query, int limit) {
+        ensureLoaded();
+        return playerSearchIndex.search(query, limit);
     }
 
     public List<Player> getPlayersByPos(String searchText) {
-        return playerRepository.findAll().stream()
-                .filter(player -> player.getPos().toLowerCase().contains(searchText.toLowerCase()))
-                .collect(Collectors.toList());
+        return index().byPosition(searchText);
     }
 
     public List<Player> getPlayersByNation(String searchText) {
-        return playerRepository.findAll().stream()
-                .filter(player -> player.getNation().toLowerCase().contains(searchText.toLowerCase()))
-                .collect(Collectors.toList());
+        return index().byNation(searchText);
     }
 
     public List<Player> getPlayersByTeamAndPosition(String team, String position){
-        return playerRepository.findAll().stream()
-                .filter(player -> team.equals(player.getTeam()) && position.equals(player.getPos()))
-                .collect(Collectors.toList());
+        return index().byTeamAndPosition(team, position);
+    }
+    public List<PlayerController.Leader> getLeaders(PlayerStat stat, String position, double minMinutes, int k) {
+        ensureLoaded();
+        return playerLeaderboard.leaders(stat, position, minMinutes, k);
+    }
+
+    public PlayerController.PercentileProfile getPercentiles(String name, String position) {
+        ensureLoaded();
+        return playerPercentiles.profile(name, position);
     }
+
+    public List<PlayerController.SimilarPlayer> getSimilarPlayers(String name, String position, int k) {
+        ensureLoaded();
+        return playerSimilarity.similar(name, position, k);
+    }
+
+    public List<Player> page(List<Player> players, Comparator<Player> order, int offset, int limit) {
+        if (offset >= players.size() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        int end = (int) Math.min(players.size(), (long) offset + limit);
+        if (order == null) {
+            return new ArrayList<>(players.subList(offset, end));
+        }
+
+        // Only the first offset+limit rows are ever needed, so keep them in a bounded heap.
+        PriorityQueue<Player> heap = new PriorityQueue<>(end + 1, order.reversed());
+        for (Player player : players) {
+            heap.offer(player);
+            if (heap.size() > end) {
+                heap.poll();
+            }
+        }
+        List<Player> top = new ArrayList<>(heap);
+        top.sort(order);
+        return new ArrayList<>(top.subList(offset, end));
+    }
+
     public Player addPlayer(Player player) {
+        ensureLoaded();
+        player.fillMissingStats();
         playerRepository.save(player);
+        publishSaved(player);
         return player;
     }
     public Player updatePlayer(Player updatedPlayer) {
+        ensureLoaded();
         Optional<Player> existingPlayer = playerRepository.findByName(updatedPlayer.getName());
 
         if (existingPlayer.isPresent()) {
@@ -64,13 +123,83 @@ public class PlayerService {
             playerToUpdate.setTeam(updatedPlayer.getTeam());
             playerToUpdate.setPos(updatedPlayer.getPos());
             playerToUpdate.setNation(updatedPlayer.getNation());
+            playerToUpdate.fillMissingStats();
             playerRepository.save(playerToUpdate);
+            publishSaved(playerToUpdate);
             return playerToUpdate;
         }
         return null;
     }
     @Transactional
     public void deletePlayer(String playerName) {
+        ensureLoaded();
         playerRepository.deleteByName(playerName);
+        publishRemoved(playerName);
+    }
+
+    // One version bump per ingest, however many rows it touched.
+    public void applyChanges(Collection<Player> saved, Collection<String> removed) {
+        ensureLoaded();
+        if (saved.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        for (Player player : saved) {
+            publish(l -> l.playerSaved(player));
+        }
+        for (String name : removed) {
+            publish(l -> l.playerRemoved(name));
+        }
+        dataVersion.bump(DataVersion.Scope.PLAYERS);
+    }
+
+    public void reload(Collection<Player> players) {
+        synchronized (this) {
+            listeners.forEach(l -> l.playersLoaded(players));
+            loaded = true;
+            dataVersion.bump(DataVersion.Scope.PLAYERS);
+        }
+    }
+
+    /** The players' {@link DataVersion}, once the player table is loaded; it moves on every player write. */
+    public long getVersion() {
+        ensureLoaded();
+        return dataVersion.get(DataVersion.Scope.PLAYERS);
+    }
+
+    private void publishSaved(Player player) {
+        publish(l -> l.playerSaved(player));
+        dataVersion.bump(DataVersion.Scope.PLAYERS);
+    }
+
+    private void publishRemoved(String name) {
+        publish(l -> l.playerRemoved(name));
+        dataVersion.bump(DataVersion.Scope.PLAYERS);
+    }
+
+    // A listener that throws leaves the ones before it ahead of the rest. The table already holds the write,
+    // so rebuilding every listener from it puts them all back in step with the table and with each other.
+    private void publish(Consumer<PlayerChangeListener> change) {
+        try {
+            listeners.forEach(change);
+        } catch (RuntimeException e) {
+            System.err.println("Player listener failed, rebuilding from the player table: " + e);
+            reload(playerRepository.findAll());
+        }
+    }
+
+    private PlayerIndex index() {
+        ensureLoaded();
+        return playerIndex;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!loaded) {
+                reload(playerRepository.findAll());
+            }
+        }
     }
 }
@@ -0,0 +1,141 @@
+package com.example.l1.player;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * "Players most similar to X": k-nearest neighbours over z-scored stat vectors, answered through
+ * a {@link VpTree} per position. Vectors and trees are rebuilt lazily after the player table changes.
+ */
+@Component
+public class PlayerSimilarity implements PlayerChangeListener {
+    private static final String ALL_POSITIONS = "";
+    private static final PlayerStat[] FEATURES = {
+            PlayerStat.MIN, PlayerStat.GLS, PlayerStat.AST, PlayerStat.PK, PlayerStat.XG, PlayerStat.XAG,
+            PlayerStat.CRDY, PlayerStat.CRDR, PlayerStat.GLS_90, PlayerStat.AST_90, PlayerStat.XG_90, PlayerStat.XAG_90
+    };
+
+    private final Map<String, Player> players = new LinkedHashMap<>();
+    private volatile Space space;
+
+    @Override
+    public synchronized void playersLoaded(Collection<Player> loaded) {
+        players.clear();
+        for (Player player : loaded) {
+            players.put(player.getName(), player);
+        }
+        space = null;
+    }
+
+    @Override
+    public synchronized void playerSaved(Player player) {
+        players.put(player.getName(), player);
+        space = null;
+    }
+
+    @Override
+    public synchronized void playerRemoved(String name) {
+        players.remove(name);
+        space = null;
+    }
+
+    public List<PlayerController.SimilarPlayer> similar(String name, String position, int k) {
+        Space current = space();
+        Integer id = current.idByName.get(name);
+        if (id == null) {
+            return null;
+        }
+        String pos = position == null ? ALL_POSITIONS : position.trim().toUpperCase(Locale.ROOT);
+        VpTree tree = current.tree(pos);
+        if (tree == null) {
+            return new ArrayList<>();
+        }
+
+        double[] query = Arrays.copyOfRange(current.vectors, id * FEATURES.length, (id + 1) * FEATURES.length);
+        List<PlayerController.SimilarPlayer> out = new ArrayList<>();
+        for (int neighbour : tree.nearest(query, k, id)) {
+            Player p = current.players[neighbour];
+            double distance = Math.round(tree.distance(query, neighbour) * 1000.0) / 1000.0;
+            out.add(new PlayerController.SimilarPlayer(p.getName(), p.getTeam(), p.getPos(), distance));
+        }
+        return out;
+    }
+
+    private Space space() {
+        Space current = space;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (space == null) {
+                space = new Space(new ArrayList<>(players.values()));
+            }
+            return space;
+        }
+    }
+
+    static double[] zScored(List<Player> players) {
+        int n = players.size();
+        int dims = FEATURES.length;
+        double[] vectors = new double[n * dims];
+        for (int i = 0; i < n; i++) {
+            for (int d = 0; d < dims; d++) {
+                vectors[i * dims + d] = FEATURES[d].valueOf(players.get(i));
+            }
+        }
+        for (int d = 0; d < dims; d++) {
+            double sum = 0;
+            double sumSq = 0;
+            for (int i = 0; i < n; i++) {
+                double v = vectors[i * dims + d];
+                sum += v;
+                sumSq += v * v;
+            }
+            double mean = n == 0 ? 0 : sum / n;
+            double variance = n == 0 ? 0 : sumSq / n - mean * mean;
+            double std = variance > 1e-12 ? Math.sqrt(variance) : 1.0;
+            for (int i = 0; i < n; i++) {
+                vectors[i * dims + d] = (vectors[i * dims + d] - mean) / std;
+            }
+        }
+        return vectors;
+    }
+
+    static int dimensions() {
+        return FEATURES.length;
+    }
+
+    private static final class Space {
+        final Player[] players;
+        final double[] vectors;
+        final Map<String, Integer> idByName = new HashMap<>();
+        final Map<String, int[]> membersByPosition = new HashMap<>();
+        final Map<String, VpTree> trees = new ConcurrentHashMap<>();
+
+        Space(List<Player> list) {
+            this.players = list.toArray(new Player[0]);
+            this.vectors = zScored(list);
+            Map<String, List<Integer>> members = new HashMap<>();
+            for (int i = 0; i < players.length; i++) {
+                idByName.put(players[i].getName(), i);
+                members.computeIfAbsent(ALL_POSITIONS, k -> new ArrayList<>()).add(i);
+                for (String token : PlayerIndex.positionTokens(players[i].getPos())) {
+                    members.computeIfAbsent(token, k -> new ArrayList<>()).add(i);
+                }
+            }
+            for (Map.Entry<String, List<Integer>> e : members.entrySet()) {
+                membersByPosition.put(e.getKey(), e.getValue().stream().mapToInt(Integer::intValue).toArray());
+            }
+        }
+
+        VpTree tree(String pos) {
+            int[] members = membersByPosition.get(pos);
+            if (members == null) {
+                return null;
+            }
+            return trees.computeIfAbsent(pos, k -> new VpTree(vectors, FEATURES.length, members));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.l1.player;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+public enum PlayerStat {
+    AGE("age", Player::getAge),
+    MP("mp", Player::getMp),
+    STARTS("starts", Player::getStarts),
+    MIN("min", Player::getMin),
+    GLS("gls", Player::getGls),
+    AST("ast", Player::getAst),
+    PK("pk", Player::getPk),
+    CRDY("crdy", Player::getCrdy),
+    CRDR("crdr", Player::getCrdr),
+    XG("xg", Player::getXg),
+    XAG("xag", Player::getXag),
+    GLS_90("gls90", p -> per90(p, p.getGls()), true),
+    AST_90("ast90", p -> per90(p, p.getAst()), true),
+    GA_90("ga90", p -> per90(p, p.getGls() + p.getAst()), true),
+    XG_90("xg90", p -> per90(p, p.getXg()), true),
+    XAG_90("xag90", p -> per90(p, p.getXag()), true);
+
+    // Five full matches: below that a cameo goal or two would top the per-90 boards.
+    private static final double PER_90_MIN_MINUTES = 450;
+
+    private static final Map<String, PlayerStat> BY_KEY = new HashMap<>();
+
+    static {
+        for (PlayerStat stat : values()) {
+            BY_KEY.put(stat.key, stat);
+        }
+    }
+
+    private final String key;
+    private final ToDoubleFunction<Player> getter;
+    private final boolean per90;
+
+    PlayerStat(String key, ToDoubleFunction<Player> getter) {
+        this(key, getter, false);
+    }
+
+    PlayerStat(String key, ToDoubleFunction<Player> getter, boolean per90) {
+        this.key = key;
+        this.getter = getter;
+        this.per90 = per90;
+    }
+
+    public static PlayerStat fromKey(String key) {
+        return key == null ? null : BY_KEY.get(key.trim().toLowerCase(Locale.ROOT));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /** The minutes a player needs to appear on this stat's board when the request names no minimum. */
+    public double defaultMinMinutes() {
+        return per90 ? PER_90_MIN_MINUTES : 0;
+    }
+
+    public double valueOf(Player player) {
+        return getter.applyAsDouble(player);
+    }
+
+    private static double per90(Player player, double total) {
+        double minutes = player.getMin();
+        return minutes > 0 ? total * 90.0 / minutes : 0.0;
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.l1.player;
+
+import java.util.Random;
+
+/**
+ * Vantage-point tree over rows of a flat {@code double[]} (row i occupies {@code [i*dims, (i+1)*dims)}).
+ * Nodes live implicitly in the permuted id array: the node for range [lo, hi) has its vantage point
+ * at lo, the inner half in [lo+1, mid) and the outer half in [mid, hi).
+ */
+final class VpTree {
+    private final double[] vectors;
+    private final int dims;
+    private final int[] ids;
+    private final double[] radius;
+
+    VpTree(double[] vectors, int dims, int[] ids) {
+        this.vectors = vectors;
+        this.dims = dims;
+        this.ids = ids.clone();
+        this.radius = new double[ids.length];
+        build(0, this.ids.length, new double[ids.length], new Random(17));
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    /** Returns the ids of the k nearest rows to {@code query}, nearest first, skipping {@code exclude}. */
+    int[] nearest(double[] query, int k, int exclude) {
+        if (k <= 0) {
+            return new int[0];
+        }
+        Heap heap = new Heap(k);
+        search(0, ids.length, query, exclude, heap);
+        return heap.drainNearestFirst();
+    }
+
+    double distance(double[] query, int id) {
+        double sum = 0;
+        int base = id * dims;
+        for (int d = 0; d < dims; d++) {
+            double diff = query[d] - vectors[base + d];
+            sum += diff * diff;
+        }
+        return Math.sqrt(sum);
+    }
+
+    private void build(int lo, int hi, double[] scratch, Random random) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        swap(lo, lo + random.nextInt(hi - lo), scratch);
+        int vp = ids[lo];
+        double[] vpVector = row(vp);
+        for (int i = lo + 1; i < hi; i++) {
+            scratch[i] = distance(vpVector, ids[i]);
+        }
+        int mid = (lo + 1 + hi) >>> 1;
+        select(lo + 1, hi - 1, mid, scratch);
+        radius[lo] = scratch[mid];
+        build(lo + 1, mid, scratch, random);
+        build(mid, hi, scratch, random);
+    }
+
+    private void search(int lo, int hi, double[] query, int exclude, Heap heap) {
+        if (lo >= hi) {
+            return;
+        }
+        int vp = ids[lo];
+        double d = distance(query, vp);
+        if (vp != exclude) {
+            heap.offer(vp, d);
+        }
+        if (hi - lo == 1) {
+            return;
+        }
+        int mid = (lo + 1 + hi) >>> 1;
+        double mu = radius[lo];
+        if (d < mu) {
+            search(lo + 1, mid, query, exclude, heap);
+            if (d + heap.bound() >= mu) {
+                search(mid, hi, query, exclude, heap);
+            }
+        } else {
+            search(mid, hi, query, exclude, heap);
+            if (d - heap.bound() <= mu) {
+                search(lo + 1, mid, query, exclude, heap);
+            }
+        }
+    }
+
+    // Quickselect on scratch distances, moving ids along with them.
+    private void select(int lo, int hi, int nth, double[] scratch) {
+        while (lo < hi) {
+            double pivot = scratch[(lo + hi) >>> 1];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (scratch[i] < pivot) i++;
+                while (scratch[j] > pivot) j--;
+                if (i <= j) {
+                    swap(i, j, scratch);
+                    i++;
+                    j--;
+                }
+            }
+            if (nth <= j) {
+                hi = j;
+            } else if (nth >= i) {
+                lo = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int a, int b, double[] scratch) {
+        int id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        double dist = scratch[a];
+        scratch[a] = scratch[b];
+        scratch[b] = dist;
+    }
+
+    private double[] row(int id) {
+        double[] out = new double[dims];
+        System.arraycopy(vectors, id * dims, out, 0, dims);
+        return out;
+    }
+
+    /** Bounded max-heap on distance holding the best k candidates seen so far. */
+    private static final class Heap {
+        private final int[] ids;
+        private final double[] dists;
+        private int size;
+
+        Heap(int k) {
+            this.ids = new int[k];
+            this.dists = new double[k];
+        }
+
+        double bound() {
+            return size < ids.length ? Double.POSITIVE_INFINITY : dists[0];
+        }
+
+        void offer(int id, double dist) {
+            if (size < ids.length) {
+                ids[size] = id;
+                dists[size] = dist;
+                siftUp(size++);
+            } else if (dist < dists[0]) {
+                ids[0] = id;
+                dists[0] = dist;
+                siftDown(0);
+            }
+        }
+
+        int[] drainNearestFirst() {
+            int[] out = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                out[i] = ids[0];
+                size--;
+                ids[0] = ids[size];
+                dists[0] = dists[size];
+                siftDown(0);
+            }
+            return out;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (dists[parent] >= dists[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                int largest = i;
+                if (left < size && dists[left] > dists[largest]) largest = left;
+                if (left + 1 < size && dists[left + 1] > dists[largest]) largest = left + 1;
+                if (largest == i) {
+                    return;
+                }
+                swap(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+            double dist = dists[a];
+            dists[a] = dists[b];
+            dists[b] = dist;
+        }
+    }
+}
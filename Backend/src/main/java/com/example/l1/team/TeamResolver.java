@@ -0,0 +1,223 @@
+package com.example.l1.team;
+
+import com.example.l1.TextNormalizer;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Single source of team identity. Every known spelling (CSV names, display names, player-table
+ * spellings, common abbreviations) is indexed once by its normalised form against a canonical id.
+ * Lookups are memoised per raw input, so a repeated spelling costs one hash lookup; unknown spellings
+ * go through a fuzzy match once and the outcome is cached too.
+ */
+@Component
+public class TeamResolver {
+    private static final int MEMO_LIMIT = 4096;
+    private static final int MIN_CONTAINS_LENGTH = 3;
+    private static final int NOT_FOUND = -1;
+    private static final String[] CLUB_SUFFIXES = {" FC", " AC", " HSC", " OSC", " SCO"};
+    private static final Set<String> CLUB_WORDS = new HashSet<>(Arrays.asList(
+            "fc", "afc", "ac", "cf", "sc", "as", "ss", "ssc", "hsc", "osc", "sco", "ogc", "rc", "aj", "club"));
+
+    private final List<String> names = new CopyOnWriteArrayList<>();
+    private final Map<String, Integer> aliases = new ConcurrentHashMap<>();
+    private final Map<String, Integer> memo = new ConcurrentHashMap<>();
+    private final AtomicInteger generation = new AtomicInteger();
+
+    public TeamResolver() {
+        // Display names are the ones the frontend already uses.
+        add("Paris Saint-Germain", "Paris Saint-Germain FC", "PSG", "Paris SG", "Paris");
+        add("Marseille", "Olympique de Marseille", "OM");
+        add("Monaco", "AS Monaco FC", "AS Monaco");
+        add("Nice", "OGC Nice");
+        add("Lille", "Lille OSC", "LOSC");
+        add("Lyon", "Olympique Lyonnais", "OL");
+        add("Strasbourg", "RC Strasbourg Alsace", "RC Strasbourg");
+        add("Lens", "Racing Club de Lens", "RC Lens");
+        add("Brest", "Stade Brestois 29", "Stade Brestois");
+        add("Toulouse", "Toulouse FC");
+        add("Auxerre", "AJ Auxerre");
+        add("Rennes", "Stade Rennais FC 1901", "Stade Rennais");
+        add("Nantes", "FC Nantes");
+        add("Angers", "Angers SCO");
+        add("Le Havre", "Le Havre AC");
+        add("Reims", "Stade de Reims");
+        add("Saint-Etienne", "AS Saint-Étienne", "ASSE");
+        add("Montpellier", "Montpellier HSC");
+    }
+
+    /** Canonical id for a user-supplied spelling, or -1 when it matches no team (or several equally). */
+    public int resolve(String spelling) {
+        if (spelling == null) {
+            return NOT_FOUND;
+        }
+        Integer cached = memo.get(spelling);
+        if (cached != null) {
+            return cached;
+        }
+        int seen = generation.get();
+        String key = TextNormalizer.normalize(spelling);
+        Integer id = aliases.get(key);
+        int resolved = id != null ? id : fuzzy(key);
+        // Under register's lock: an answer computed before a registration must not outlive its memo.clear().
+        synchronized (this) {
+            if (generation.get() == seen) {
+                if (memo.size() >= MEMO_LIMIT) {
+                    memo.clear();
+                }
+                memo.put(spelling, resolved);
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Id for a team name coming from a data file. Known spellings resolve exactly; anything else
+     * becomes a new team (never a fuzzy guess, which could merge two real clubs).
+     */
+    public synchronized int register(String rawName) {
+        String trimmed = rawName == null ? "" : rawName.trim();
+        Integer id = aliases.get(TextNormalizer.normalize(trimmed));
+        if (id != null) {
+            return id;
+        }
+        String display = trimmed;
+        for (String suffix : CLUB_SUFFIXES) {
+            display = display.replace(suffix, "");
+        }
+        display = display.trim();
+        if (display.isEmpty() || aliases.containsKey(TextNormalizer.normalize(display))) {
+            // "Paris FC" must not collapse onto the "Paris" alias of another club.
+            display = trimmed;
+        }
+        int added = add(display, trimmed);
+        // Earlier misses may now resolve.
+        memo.clear();
+        generation.incrementAndGet();
+        return added;
+    }
+
+    public String name(int id) {
+        return id < 0 || id >= names.size() ? null : names.get(id);
+    }
+
+    /** Canonical display name for a spelling, or the spelling itself when it cannot be resolved. */
+    public String canonicalName(String spelling) {
+        int id = resolve(spelling);
+        return id < 0 ? spelling : names.get(id);
+    }
+
+    /**
+     * Canonical name when the spelling is a known alias, otherwise its normalised form. Never a fuzzy
+     * guess, so it is safe for keys stored before every team in the data has been registered.
+     */
+    public String exactName(String spelling) {
+        String key = TextNormalizer.normalize(spelling);
+        Integer id = aliases.get(key);
+        return id == null ? key : names.get(id);
+    }
+
+    /** Changes whenever {@link #register} adds a team, so keys built from {@link #exactName} can be rebuilt. */
+    public int generation() {
+        return generation.get();
+    }
+
+    private synchronized int add(String display, String... spellings) {
+        int id = names.size();
+        names.add(display);
+        index(display, id);
+        for (String spelling : spellings) {
+            index(spelling, id);
+        }
+        return id;
+    }
+
+    private void index(String spelling, int id) {
+        String key = TextNormalizer.normalize(spelling);
+        if (!key.isEmpty()) {
+            aliases.putIfAbsent(key, id);
+        }
+        // Also index the name without club-type words ("Manchester United FC" -> "manchesterunited").
+        StringBuilder core = new StringBuilder();
+        for (String word : TextNormalizer.words(spelling)) {
+            if (!CLUB_WORDS.contains(word)) {
+                core.append(word);
+            }
+        }
+        if (core.length() >= MIN_CONTAINS_LENGTH) {
+            aliases.putIfAbsent(core.toString(), id);
+        }
+    }
+
+    // Unique containment first (the old isSameTeam rule), then the closest alias within a small edit distance.
+    private int fuzzy(String key) {
+        if (key.isEmpty()) {
+            return NOT_FOUND;
+        }
+        int contained = NOT_FOUND;
+        for (Map.Entry<String, Integer> e : aliases.entrySet()) {
+            String alias = e.getKey();
+            boolean hit = (key.length() >= MIN_CONTAINS_LENGTH && alias.contains(key))
+                    || (alias.length() >= MIN_CONTAINS_LENGTH && key.contains(alias));
+            if (!hit) {
+                continue;
+            }
+            if (contained == NOT_FOUND) {
+                contained = e.getValue();
+            } else if (contained != e.getValue()) {
+                return closest(key);
+            }
+        }
+        return contained != NOT_FOUND ? contained : closest(key);
+    }
+
+    private int closest(String key) {
+        int limit = Math.max(1, key.length() / 4);
+        int best = NOT_FOUND;
+        int bestDistance = limit + 1;
+        boolean tie = false;
+        for (Map.Entry<String, Integer> e : aliases.entrySet()) {
+            int distance = distance(key, e.getKey(), bestDistance);
+            if (distance < bestDistance) {
+                best = e.getValue();
+                bestDistance = distance;
+                tie = false;
+            } else if (distance == bestDistance && best != e.getValue()) {
+                tie = true;
+            }
+        }
+        return tie || bestDistance > limit ? NOT_FOUND : best;
+    }
+
+    // Levenshtein distance, giving up once every cell in a row exceeds the bound.
+    private static int distance(String a, String b, int bound) {
+        if (Math.abs(a.length() - b.length()) > bound) {
+            return bound + 1;
+        }
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > bound) {
+                return bound + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
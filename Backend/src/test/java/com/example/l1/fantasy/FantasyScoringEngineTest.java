@@ -0,0 +1,72 @@
+package com.example.l1.fantasy;
+
+import com.example.l1.player.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FantasyScoringEngineTest {
+    private FantasyScoringEngine engine;
+    private Player striker;
+    private Player keeper;
+
+    @BeforeEach
+    void setUp() {
+        striker = new Player("Striker", "FRA", "FW,MF", 25, 30, 28, 2500, 20, 5, 3, 4, 1, 18.0, 4.0, "Lens");
+        keeper = new Player("Keeper", "FRA", "GK", 30, 34, 34, 3060, 0, 1, 0, 2, 0, 0.0, 0.1, "Lens");
+        engine = new FantasyScoringEngine();
+        engine.playersLoaded(Arrays.asList(striker, keeper));
+    }
+
+    @Test
+    void scoresWithDefaultRules() {
+        // 4*20 goals + 3*5 assists + 2*28 starts + 2 sub apps - 4 yellows - 3 for the red
+        assertEquals(146.0, engine.pointsOf(striker), 1e-9);
+        assertEquals(3 + 68 - 2, engine.pointsOf(keeper), 1e-9);
+    }
+
+    @Test
+    void goalWeightChangeOnlyMovesThatPosition() {
+        FantasyController.ScoringRules rules = engine.getRules();
+        rules.getGoals().put("FW", 5.0);
+        engine.setRules(rules);
+
+        assertEquals(166.0, engine.pointsOf(striker), 1e-9);
+        assertEquals(69.0, engine.pointsOf(keeper), 1e-9);
+    }
+
+    @Test
+    void sharedWeightChangeRescoresEveryone() {
+        FantasyController.ScoringRules rules = engine.getRules();
+        rules.setYellowCard(0);
+        engine.setRules(rules);
+
+        assertEquals(150.0, engine.pointsOf(striker), 1e-9);
+        assertEquals(71.0, engine.pointsOf(keeper), 1e-9);
+    }
+
+    @Test
+    void savedAndRemovedPlayersUpdateTheirSlot() {
+        Player scored = new Player("Keeper", "FRA", "GK", 30, 34, 34, 3060, 1, 1, 0, 2, 0, 0.0, 0.1, "Lens");
+        engine.playerSaved(scored);
+        assertEquals(75.0, engine.pointsOf(scored), 1e-9);
+
+        engine.playerRemoved("Striker");
+        assertEquals(0.0, engine.pointsOf(striker), 1e-9);
+        assertEquals(75.0, engine.pointsOf(scored), 1e-9);
+    }
+
+    @Test
+    void playerWithoutStatsScoresZero() {
+        Player bare = new Player("Bare");
+        bare.setPos("FW");
+        bare.setTeam("Lyon");
+        engine.playerSaved(bare);
+
+        assertEquals(0.0, engine.pointsOf(bare), 1e-9);
+        assertEquals(146.0, engine.pointsOf(striker), 1e-9);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.l1.fantasy;
+
+import com.example.l1.player.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SquadOptimizerTest {
+
+    @Test
+    void squadRespectsBudgetTeamLimitAndShape() {
+        List<Player> players = randomPlayers(600, 18, new Random(5));
+        FantasyController.SquadResponse squad = solve(players, 1000, 3);
+
+        assertNotNull(squad);
+        assertEquals(11, squad.getStarting().size());
+        assertEquals(4, squad.getBench().size());
+        assertTrue(squad.getCost() <= 100.0);
+
+        Map<String, Integer> perTeam = new HashMap<>();
+        Map<String, Integer> perPosition = new HashMap<>();
+        List<FantasyController.SquadPlayer> all = new ArrayList<>(squad.getStarting());
+        all.addAll(squad.getBench());
+        for (FantasyController.SquadPlayer p : all) {
+            perTeam.merge(p.getTeam(), 1, Integer::sum);
+            perPosition.merge(p.getPos(), 1, Integer::sum);
+        }
+        assertTrue(perTeam.values().stream().allMatch(n -> n <= 3));
+        assertEquals(2, (int) perPosition.get("GK"));
+        assertEquals(5, (int) perPosition.get("DF"));
+        assertEquals(5, (int) perPosition.get("MF"));
+        assertEquals(3, (int) perPosition.get("FW"));
+    }
+
+    @Test
+    void returnsNullWhenNoSquadFits() {
+        List<Player> players = randomPlayers(200, 18, new Random(9));
+        assertNull(solve(players, 15 * 40 - 1, 3));
+    }
+
+    @Test
+    void benchPlayersCountTowardsTheTeamLimit() {
+        // Only two keepers, from teams 0 and 1, so the squad must spend a team-1 place on a keeper and
+        // the team-1 star defender cannot play: an XI picked first would take him and leave no bench keeper.
+        List<Player> players = new ArrayList<>();
+        players.add(new Player("Keeper A", "FRA", "GK", 25, 30, 30, 2700, 0, 0, 0, 0, 0, 0, 0, "Team0"));
+        players.add(new Player("Keeper B", "FRA", "GK", 25, 10, 5, 450, 0, 0, 0, 0, 0, 0, 0, "Team1"));
+        players.add(new Player("Star", "FRA", "DF", 25, 34, 34, 3060, 15, 10, 0, 0, 0, 0, 0, "Team1"));
+        String[] positions = {"DF", "MF", "FW"};
+        for (int i = 0; i < 30; i++) {
+            players.add(new Player("P" + i, "FRA", positions[i % 3], 25, 20, 15, 1350, i % 4, i % 3, 0, 0, 0, 0, 0,
+                    "Team" + (i + 2)));
+        }
+
+        FantasyController.SquadResponse squad = solve(players, 1950, 1);
+
+        assertNotNull(squad);
+        List<FantasyController.SquadPlayer> all = new ArrayList<>(squad.getStarting());
+        all.addAll(squad.getBench());
+        assertEquals(15, all.size());
+        assertEquals(15, all.stream().map(FantasyController.SquadPlayer::getTeam).distinct().count());
+        assertTrue(all.stream().noneMatch(p -> p.getName().equals("Star")));
+    }
+
+    private static FantasyController.SquadResponse solve(List<Player> players, int budget, int maxPerTeam) {
+        FantasyScoringEngine engine = new FantasyScoringEngine();
+        engine.playersLoaded(players);
+        return SquadOptimizer.solve(players, engine.pointsOf(players), budget, maxPerTeam);
+    }
+
+    private static List<Player> randomPlayers(int n, int teams, Random random) {
+        String[] positions = {"GK", "DF", "DF", "DF", "MF", "MF", "MF", "FW", "FW", "DF,MF"};
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            int mp = random.nextInt(35);
+            int starts = random.nextInt(mp + 1);
+            players.add(new Player("P" + i, "FRA", positions[random.nextInt(positions.length)], 20 + random.nextInt(15),
+                    mp, starts, starts * 90.0, random.nextInt(15), random.nextInt(10), 0,
+                    random.nextInt(8), random.nextInt(2), 0, 0, "Team" + random.nextInt(teams)));
+        }
+        return players;
+    }
+}
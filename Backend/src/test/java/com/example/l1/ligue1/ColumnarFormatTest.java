@@ -0,0 +1,56 @@
+package com.example.l1.ligue1;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnarFormatTest {
+
+    @Test
+    void everyCellHasItsColumnsTypeAndTheRowMapValue() {
+        StandingsFormatBenchmark fixture = new StandingsFormatBenchmark();
+        fixture.setUp();
+
+        assertSameCells(fixture.standings.getOverall(), fixture.columnar.getOverall());
+        assertSameCells(fixture.standings.getHomeAway(), fixture.columnar.getHomeAway());
+        assertEquals(18, fixture.columnar.getHomeAway().getTypes().size());
+    }
+
+    @Test
+    void pointsPerMatchIsNullBeforeTheFirstMatch() {
+        TeamTable table = new TeamTable(2);
+        table.apply(0, 2, 1);
+
+        assertEquals(3.0, ColumnarFormat.pointsPerMatch(table, 0));
+        assertNull(ColumnarFormat.pointsPerMatch(table, 1));
+    }
+
+    private static void assertSameCells(Ligue1Controller.LeagueTable rows, Ligue1Controller.ColumnarTable columnar) {
+        List<String> columns = columnar.getColumns();
+        assertEquals(rows.getColumns(), columns);
+        assertEquals(columns.size(), columnar.getTypes().size());
+        assertEquals(rows.getRows().size(), columnar.getRows().size());
+        for (int r = 0; r < columnar.getRows().size(); r++) {
+            List<Object> row = columnar.getRows().get(r);
+            for (int c = 0; c < columns.size(); c++) {
+                Object value = row.get(c);
+                String expected = rows.getRows().get(r).getValues().get(columns.get(c));
+                switch (columnar.getTypes().get(c)) {
+                    case ColumnarFormat.INT:
+                        assertEquals(Integer.valueOf(expected), value);
+                        break;
+                    case ColumnarFormat.DOUBLE:
+                        assertEquals(expected.isEmpty() ? null : Double.valueOf(expected), value);
+                        break;
+                    default:
+                        assertTrue(value instanceof String);
+                        assertEquals(expected, value);
+                }
+            }
+        }
+    }
+}
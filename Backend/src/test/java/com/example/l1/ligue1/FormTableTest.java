@@ -0,0 +1,89 @@
+package com.example.l1.ligue1;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FormTableTest {
+
+    @Test
+    void windowFollowsKickOffOrderAcrossTheRingBoundary() {
+        MatchStore.Builder builder = new MatchStore.Builder(name -> name);
+        // Twelve Lens matches, listed out of date order; the last three by date are W, D, L.
+        for (int i = 0; i < 9; i++) {
+            builder.add("Lens", "Lille", 1, 0, i + 1, 100 + i);
+        }
+        builder.add("Nice", "Lens", 2, 0, 12, 111);
+        builder.add("Lens", "Nice", 0, 0, 11, 110);
+        builder.add("Lens", "Nice", 3, 1, 10, 109);
+        FormTable form = new FormTable(builder.build(), new String[]{"lens", "lille", "nice"});
+
+        Ligue1Controller.FormRow lens = form.row(0, 3);
+        assertEquals("WDL", lens.getForm());
+        assertEquals(4, lens.getPts());
+        assertEquals(3, lens.getGf());
+        assertEquals(3, lens.getGa());
+        assertEquals("WWWWWWWWDL", form.row(0, FormTable.CAPACITY).getForm());
+    }
+
+    @Test
+    void tableRanksTeamsByRecentPoints() {
+        MatchStore matches = new MatchStore.Builder(name -> name)
+                .add("Lens", "Lille", 3, 0, 1, 100)
+                .add("Lille", "Nice", 1, 0, 2, 107)
+                .add("Nice", "Lens", 2, 0, 3, 114)
+                .build();
+        List<Ligue1Controller.FormRow> table = new FormTable(matches, new String[]{"lens", "lille", "nice"}).table(1);
+
+        assertEquals("Nice", table.get(0).getTeam());
+        assertEquals("Lille", table.get(1).getTeam());
+        assertEquals("Lens", table.get(2).getTeam());
+        assertEquals(1, table.get(2).getMp());
+    }
+
+    @Test
+    void extendingMatchesARebuildAndLeavesTheOldTableAlone() {
+        String[] teams = {"Lens", "Lille", "Nice", "Brest"};
+        MatchStore.Builder earlier = new MatchStore.Builder(name -> name);
+        MatchStore.Builder later = new MatchStore.Builder(name -> name);
+        for (int i = 0; i < 14; i++) {
+            String home = teams[i % 3];
+            String away = teams[(i + 1) % 3];
+            earlier.add(home, away, i % 4, i % 3, i + 1, 100 + 7 * i);
+            later.add(home, away, i % 4, i % 3, i + 1, 100 + 7 * i);
+        }
+        // Brest is new in the appended results.
+        later.add("Brest", "Lens", 2, 2, 15, 198);
+        later.add("Nice", "Brest", 0, 1, 16, 205);
+        String[] keys = {"brest", "lens", "lille", "nice"};
+        MatchStore before = earlier.build();
+        MatchStore after = later.build();
+        FormTable old = new FormTable(before, new String[]{"lens", "lille", "nice"});
+        String oldLens = old.row(0, 5).getForm();
+
+        FormTable extended = old.extendTo(after, keys);
+        FormTable rebuilt = new FormTable(after, keys);
+
+        for (int t = 0; t < after.teamCount(); t++) {
+            for (int n = 1; n <= FormTable.CAPACITY; n++) {
+                assertEquals(rebuilt.row(t, n).getForm(), extended.row(t, n).getForm());
+                assertEquals(rebuilt.row(t, n).getGd(), extended.row(t, n).getGd());
+            }
+        }
+        assertEquals(oldLens, old.row(0, 5).getForm());
+    }
+
+    @Test
+    void appendedMatchBeforeTheLastRecordedOneRebuilds() {
+        MatchStore.Builder earlier = new MatchStore.Builder(name -> name).add("Lens", "Lille", 1, 0, 2, 107);
+        MatchStore.Builder later = new MatchStore.Builder(name -> name).add("Lens", "Lille", 1, 0, 2, 107)
+                .add("Lille", "Lens", 2, 0, 1, 100);
+        String[] keys = {"lens", "lille"};
+        FormTable extended = new FormTable(earlier.build(), keys).extendTo(later.build(), keys);
+
+        // The appended loss came first, so the win is the latest result.
+        assertEquals("LW", extended.row(0, 2).getForm());
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.l1.ligue1;
+
+import com.example.l1.TextNormalizer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.example.l1.ligue1.HeadToHeadBenchmark
+// 20 teams is one league's double round robin; 200 teams is ten such leagues plus cross-league cup ties.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeadToHeadBenchmark {
+    private static final int LEAGUE_SIZE = 20;
+
+    @Param({"20", "200"})
+    public int teams;
+
+    private String[] names;
+    private MatchStore store;
+    private HeadToHead matrix;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        names = new String[teams];
+        for (int t = 0; t < teams; t++) {
+            names[t] = "Étoile Sportive " + t + " FC";
+        }
+        Random data = new Random(3);
+        MatchStore.Builder builder = new MatchStore.Builder(name -> name);
+        for (int league = 0; league < teams / LEAGUE_SIZE; league++) {
+            int first = league * LEAGUE_SIZE;
+            for (int h = first; h < first + LEAGUE_SIZE; h++) {
+                for (int a = first; a < first + LEAGUE_SIZE; a++) {
+                    if (h != a) {
+                        builder.add(names[h], names[a], data.nextInt(5), data.nextInt(4), 1, 0);
+                    }
+                }
+            }
+        }
+        if (teams > LEAGUE_SIZE) {
+            for (int i = 0; i < teams * 2; i++) {
+                builder.add(names[data.nextInt(teams)], names[data.nextInt(teams)], data.nextInt(4), data.nextInt(4), 1, 0);
+            }
+        }
+        store = builder.build();
+        matrix = new HeadToHead(store);
+        random = new Random(7);
+    }
+
+    @Benchmark
+    public List<Ligue1Controller.H2HRow> matrix() {
+        return matrix.rows(names[random.nextInt(teams)]);
+    }
+
+    // The previous path: scan every match, normalising both team names per match and again while sorting.
+    @Benchmark
+    public List<Ligue1Controller.H2HRow> scan() {
+        String wanted = TextNormalizer.normalize(names[random.nextInt(teams)]);
+        Map<String, int[]> byOpponent = new HashMap<>();
+        for (int m = 0; m < store.size(); m++) {
+            String t1 = store.team(store.home(m));
+            String t2 = store.team(store.away(m));
+            boolean isHome = isSameTeam(wanted, t1);
+            boolean isAway = isSameTeam(wanted, t2);
+            if (!isHome && !isAway) {
+                continue;
+            }
+            String opponent = isHome ? t2 : t1;
+            int gf = isHome ? store.homeGoals(m) : store.awayGoals(m);
+            int ga = isHome ? store.awayGoals(m) : store.homeGoals(m);
+            int[] agg = byOpponent.computeIfAbsent(opponent, k -> new int[7]);
+            agg[0]++;
+            agg[4] += gf;
+            agg[5] += ga;
+            if (gf > ga) {
+                agg[1]++;
+                agg[6] += 3;
+            } else if (gf == ga) {
+                agg[2]++;
+                agg[6]++;
+            } else {
+                agg[3]++;
+            }
+        }
+        List<Ligue1Controller.H2HRow> out = new ArrayList<>();
+        for (Map.Entry<String, int[]> e : byOpponent.entrySet()) {
+            int[] a = e.getValue();
+            out.add(new Ligue1Controller.H2HRow(e.getKey(), a[0], a[1], a[2], a[3], a[4], a[5], a[4] - a[5], a[6]));
+        }
+        out.sort((a, b) -> {
+            int byPts = Integer.compare(b.getPts(), a.getPts());
+            if (byPts != 0) return byPts;
+            int byGd = Integer.compare(b.getGd(), a.getGd());
+            if (byGd != 0) return byGd;
+            int byGf = Integer.compare(b.getGf(), a.getGf());
+            if (byGf != 0) return byGf;
+            return TextNormalizer.normalize(a.getOpponent()).compareTo(TextNormalizer.normalize(b.getOpponent()));
+        });
+        return out;
+    }
+
+    private static boolean isSameTeam(String wanted, String teamName) {
+        String normalizedTeam = TextNormalizer.normalize(teamName);
+        return normalizedTeam.equals(wanted) || normalizedTeam.contains(wanted) || wanted.contains(normalizedTeam);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(HeadToHeadBenchmark.class.getSimpleName()).build()).run();
+    }
+}
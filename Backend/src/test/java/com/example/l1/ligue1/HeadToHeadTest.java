@@ -0,0 +1,42 @@
+package com.example.l1.ligue1;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HeadToHeadTest {
+    private final HeadToHead headToHead = new HeadToHead(new MatchStore.Builder(name -> name)
+            .add("Lens", "Lille", 2, 0, 1, 0)
+            .add("Lille", "Lens", 1, 1, 2, 0)
+            .add("Lens", "Nice", 0, 1, 3, 0)
+            .add("Nice", "Lille", 3, 3, 4, 0)
+            .build());
+
+    @Test
+    void singleTeamRowIsAggregatedAndSorted() {
+        List<Ligue1Controller.H2HRow> rows = headToHead.rows("lens");
+
+        assertEquals(2, rows.size());
+        Ligue1Controller.H2HRow lille = rows.get(0);
+        assertEquals("Lille", lille.getOpponent());
+        assertEquals(2, lille.getMp());
+        assertEquals(4, lille.getPts());
+        assertEquals(3, lille.getGf());
+        assertEquals(1, lille.getGa());
+        assertEquals("Nice", rows.get(1).getOpponent());
+        assertEquals(0, rows.get(1).getPts());
+    }
+
+    @Test
+    void matchBetweenTwoMatchedTeamsCountsOnceFromTheHomeSide() {
+        // "l" matches both Lens and Lille.
+        List<Ligue1Controller.H2HRow> rows = headToHead.rows("l");
+        int matches = rows.stream().mapToInt(Ligue1Controller.H2HRow::getMp).sum();
+
+        assertEquals(4, matches);
+        assertTrue(headToHead.rows("Marseille").isEmpty());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.l1.ligue1;
+
+import com.example.l1.DataVersion;
+import com.example.l1.team.TeamResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Ligue1ServiceTest {
+    private final TeamResolver resolver = new TeamResolver();
+    private final Ligue1Service service = new Ligue1Service(resolver, new DataVersion());
+
+    @BeforeEach
+    void loadFixtures() {
+        MatchStore matches = new MatchStore.Builder(name -> resolver.name(resolver.register(name)))
+                .add("Lens", "Lille", 2, 1, 1, 100)
+                .add("Lille", "Nice", 0, 0, 2, 107)
+                .add("Nice", "Lens", 1, 3, 3, 114)
+                .addFixture("Lens", "Nice", 4)
+                .build();
+        service.load(Collections.singletonMap("FL1", matches), System.nanoTime());
+    }
+
+    @Test
+    void openFixturesAndReplayedMatchesAreAccepted() {
+        assertNotNull(service.getScenarioStandingsJson("FL1", null, results(result("RC Lens", "Nice", 1, 1))));
+        // After matchday 1, Lille v Nice is open again.
+        assertNotNull(service.getScenarioStandingsJson("FL1", 1, results(result("Lille", "OGC Nice", 2, 0))));
+    }
+
+    @Test
+    void unknownPairingIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getScenarioStandingsJson("FL1", null, results(result("Lens", "Arsenal", 1, 0))));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getScenarioStandingsJson("FL1", null, results(result("Lens", "Lens", 1, 0))));
+    }
+
+    @Test
+    void alreadyPlayedMatchIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.getScenarioStandingsJson("FL1", null, results(result("Lens", "Lille", 0, 0))));
+        // The one open Lens v Nice fixture cannot be set twice.
+        assertThrows(IllegalArgumentException.class, () -> service.getScenarioStandingsJson("FL1", null,
+                results(result("Lens", "Nice", 1, 0), result("Lens", "Nice", 2, 0))));
+    }
+
+    @Test
+    void monthViewIsNullForMonthsWithoutMatches() {
+        // Epoch days 100..114 fall in April 1970.
+        assertNotNull(service.getStandingsJsonView("FL1", TableViews.MONTH, "1970-04"));
+        assertNull(service.getStandingsJsonView("FL1", TableViews.MONTH, "1970-05"));
+        assertNull(service.getStandingsView("FL1", TableViews.MONTH, "1970-05"));
+        assertThrows(IllegalArgumentException.class, () -> service.getStandingsView("FL1", TableViews.MONTH, null));
+    }
+
+    @Test
+    void fixtureOnlyTeamsAreLeftOutOfTablesUntilTheyPlay() {
+        MatchStore matches = new MatchStore.Builder(name -> resolver.name(resolver.register(name)))
+                .add("Lens", "Lille", 2, 1, 1, 100)
+                .addFixture("Lens", "Nice", 2)
+                .build();
+        service.load(Collections.singletonMap("FL1", matches), System.nanoTime());
+
+        assertEquals(Arrays.asList("Lens", "Lille"), squads(service.getStandings("FL1").getOverall()));
+        assertEquals(Arrays.asList("Lens", "Lille"), squads(service.getStandingsView("FL1", "home", null).getHomeAway()));
+        assertEquals(2, service.getColumnarStandingsView("FL1", TableViews.OVERALL, null).getOverall().getRows().size());
+        assertEquals(2, service.getForm("FL1", null, 5).size());
+        assertEquals(2, service.getProgression("FL1", null).size());
+        // A scenario result gives the team a row.
+        assertNotNull(service.getScenarioStandingsJson("FL1", null, results(result("Lens", "Nice", 0, 1))));
+        assertEquals(3, Ligue1Service.renderStandings(matches, new String[]{"lens", "lille", "nice"},
+                played(3, 2), new TeamTable(3), played(3, 2)).getOverall().getRows().size());
+    }
+
+    private static TeamTable played(int teams, int team) {
+        TeamTable table = new TeamTable(teams);
+        table.apply(team, 1, 0);
+        return table;
+    }
+
+    private static List<String> squads(Ligue1Controller.LeagueTable table) {
+        return table.getRows().stream().map(r -> r.getValues().get("Squad")).collect(Collectors.toList());
+    }
+
+    private static Ligue1Controller.ScenarioResult result(String home, String away, int homeGoals, int awayGoals) {
+        return new Ligue1Controller.ScenarioResult(home, away, homeGoals, awayGoals);
+    }
+
+    private static List<Ligue1Controller.ScenarioResult> results(Ligue1Controller.ScenarioResult... results) {
+        return Arrays.asList(results);
+    }
+}
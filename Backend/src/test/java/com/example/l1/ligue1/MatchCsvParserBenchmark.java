@@ -0,0 +1,117 @@
+package com.example.l1.ligue1;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.example.l1.ligue1.MatchCsvParserBenchmark
+// The synthetic files are written once to java.io.tmpdir (about 1.6 GB for 10M rows) and reused.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class MatchCsvParserBenchmark {
+    private static final String HEADER = "competition_code,competition_name,season,match_id,matchday,stage,status,date_utc,"
+            + "referee,home_team_id,home_team,away_team_id,away_team,fulltime_home,fulltime_away,halftime_home,"
+            + "halftime_away,goal_difference,total_goals,match_outcome,home_points,away_points,referee_id";
+    private static final String[] COMPETITIONS = {"PL", "SA", "PD", "BL1", "CL", "FL1"};
+    private static final String[] TEAMS = {
+            "Paris Saint-Germain FC", "Olympique de Marseille", "AS Monaco FC", "OGC Nice", "Lille OSC",
+            "Olympique Lyonnais", "RC Strasbourg Alsace", "Racing Club de Lens", "Stade Brestois 29", "Toulouse FC",
+            "AJ Auxerre", "Stade Rennais FC 1901", "FC Nantes", "Angers SCO", "Le Havre AC", "Stade de Reims",
+            "AS Saint-Étienne", "Montpellier HSC"
+    };
+
+    @Param({"1000000", "10000000"})
+    public int rows;
+
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Paths.get(System.getProperty("java.io.tmpdir"), "l1-matches-" + rows + ".csv");
+        if (Files.exists(file)) {
+            return;
+        }
+        Random random = new Random(1);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (int i = 0; i < rows; i++) {
+                String competition = COMPETITIONS[random.nextInt(COMPETITIONS.length)];
+                String home = TEAMS[random.nextInt(TEAMS.length)];
+                String away = TEAMS[random.nextInt(TEAMS.length)];
+                int hg = random.nextInt(5);
+                int ag = random.nextInt(5);
+                String outcome = hg > ag ? "home_win" : hg == ag ? "draw" : "away_win";
+                writer.write(competition + ",Competition," + (2000 + i % 25) + "," + i + "," + (i % 38 + 1)
+                        + ",REGULAR_SEASON,FINISHED,2024-08-16T18:45:00Z,Referee Name," + (i % 900) + "," + home + ","
+                        + (i % 901) + "," + away + "," + hg + "," + ag + "," + (hg / 2) + "," + (ag / 2) + ","
+                        + (hg - ag) + "," + (hg + ag) + "," + outcome + ",0,0," + (i % 300));
+                writer.newLine();
+            }
+        }
+    }
+
+    @Benchmark
+    public int byteParser() throws IOException {
+        int[] goals = new int[1];
+        new MatchCsvParser("FL1", "FINISHED").parse(file, (competition, home, away, hg, ag, hth, hta, matchday, date) -> goals[0] += hg + ag);
+        return goals[0];
+    }
+
+    // The previous approach: decode every line, split every field, then filter.
+    @Benchmark
+    public int lineSplit() throws IOException {
+        int goals = 0;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] values = splitLine(line);
+                if (!"FL1".equals(values[0]) || !"FINISHED".equals(values[6])) {
+                    continue;
+                }
+                goals += Integer.parseInt(values[13].trim()) + Integer.parseInt(values[14].trim());
+            }
+        }
+        return goals;
+    }
+
+    private static String[] splitLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                inQuotes = !inQuotes;
+            } else if (c == ',' && !inQuotes) {
+                values.add(current.toString());
+                current = new StringBuilder();
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values.toArray(new String[0]);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(MatchCsvParserBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.l1.ligue1;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MatchCsvParserTest {
+    private static final String HEADER = "competition_code,status,home_team,away_team,fulltime_home,fulltime_away";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void keepsOnlyMatchingFinishedRows() throws IOException {
+        List<String> rows = parse(HEADER,
+                "FL1,FINISHED,Lille OSC,FC Nantes,2,1",
+                "PL,FINISHED,Arsenal FC,Chelsea FC,1,1",
+                "FL1,SCHEDULED,OGC Nice,Stade de Reims,,",
+                "FL1,FINISHED,Stade de Reims,Lille OSC,0,3");
+        assertEquals(Arrays.asList("Lille OSC-FC Nantes 2:1", "Stade de Reims-Lille OSC 0:3"), rows);
+    }
+
+    @Test
+    void handlesQuotesCrlfAndMissingTrailingNewline() throws IOException {
+        List<String> rows = parse(HEADER + "\r",
+                "\"FL1\",FINISHED,\"Paris Saint-Germain FC, Paris\",AS Saint-Étienne, 4 ,\"0\"\r",
+                "FL1,FINISHED,Angers SCO,Le Havre AC,1,x\r",
+                "FL1,FINISHED,Angers SCO,Le Havre AC,1,1");
+        assertEquals(Arrays.asList("Paris Saint-Germain FC, Paris-AS Saint-Étienne 4:0", "Angers SCO-Le Havre AC 1:1"), rows);
+    }
+
+    @Test
+    void keepsEveryCompetitionWithoutAFilter() throws IOException {
+        Path file = dir.resolve("matches.csv");
+        Files.write(file, String.join("\n", HEADER,
+                "FL1,FINISHED,Lille OSC,FC Nantes,2,1",
+                "\"PL\",FINISHED,Arsenal FC,Chelsea FC,1,1",
+                "CL,SCHEDULED,Arsenal FC,Lille OSC,,").getBytes(StandardCharsets.UTF_8));
+        List<String> out = new ArrayList<>();
+        new MatchCsvParser(null, "FINISHED").parse(file, (competition, home, away, hg, ag, hth, hta, matchday, date) -> out.add(competition + " " + home));
+        assertEquals(Arrays.asList("FL1 Lille OSC", "PL Arsenal FC"), out);
+
+        List<String> fixtures = new ArrayList<>();
+        new MatchCsvParser("CL", "FINISHED").parse(file, (competition, home, away, hg, ag, hth, hta, matchday, date) -> out.add(home),
+                (competition, home, away, matchday, date) -> fixtures.add(home + "-" + away));
+        assertEquals(Arrays.asList("Arsenal FC-Lille OSC"), fixtures);
+    }
+
+    @Test
+    void readsDatesAsEpochDays() {
+        for (String date : new String[]{"1970-01-01", "2000-02-29", "2024-08-16", "2025-05-17", "1899-12-31"}) {
+            LocalDate expected = LocalDate.parse(date);
+            assertEquals(expected.toEpochDay(), MatchCsvParser.epochDay(expected.getYear(), expected.getMonthValue(), expected.getDayOfMonth()));
+        }
+    }
+
+    private List<String> parse(String... lines) throws IOException {
+        Path file = dir.resolve("matches.csv");
+        Files.write(file, String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+        List<String> out = new ArrayList<>();
+        new MatchCsvParser("FL1", "FINISHED").parse(file, (competition, home, away, hg, ag, hth, hta, matchday, date) -> out.add(home + "-" + away + " " + hg + ":" + ag));
+        return out;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.l1.ligue1;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.example.l1.ligue1.MatchPredictorBenchmark
+// One double round robin of 18 teams, the size of a Ligue 1 season.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchPredictorBenchmark {
+    private static final int TEAMS = 18;
+
+    private MatchStore matches;
+    private MatchPredictor predictor;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        Random data = new Random(5);
+        MatchStore.Builder builder = new MatchStore.Builder(name -> name);
+        int day = 0;
+        for (int h = 0; h < TEAMS; h++) {
+            for (int a = 0; a < TEAMS; a++) {
+                if (h != a) {
+                    builder.add("Team " + h, "Team " + a, data.nextInt(4), data.nextInt(3), 1, day++);
+                }
+            }
+        }
+        matches = builder.build();
+        predictor = MatchPredictor.train(matches, m -> true);
+        random = new Random(9);
+    }
+
+    @Benchmark
+    public Ligue1Controller.Prediction predict() {
+        int home = random.nextInt(TEAMS);
+        return predictor.predict(matches, home, (home + 1 + random.nextInt(TEAMS - 1)) % TEAMS);
+    }
+
+    // A full retrain, which a reload avoids when the file only grew.
+    @Benchmark
+    public MatchPredictor train() {
+        return MatchPredictor.train(matches, m -> true);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(MatchPredictorBenchmark.class.getSimpleName()).build()).run();
+    }
+}
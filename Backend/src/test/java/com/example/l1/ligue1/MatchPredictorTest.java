@@ -0,0 +1,42 @@
+package com.example.l1.ligue1;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MatchPredictorTest {
+
+    private static MatchStore.Builder season(int rounds) {
+        MatchStore.Builder builder = new MatchStore.Builder(name -> name);
+        for (int round = 1; round <= rounds; round++) {
+            builder.add("Lens", "Lille", 3, 0, round, round * 7)
+                    .add("Lille", "Nice", 1, 1, round, round * 7)
+                    .add("Nice", "Lens", 0, 2, round, round * 7);
+        }
+        return builder;
+    }
+
+    @Test
+    void strongerSideIsFavouredAndProbabilitiesSumToOne() {
+        MatchStore matches = season(6).build();
+        MatchPredictor predictor = MatchPredictor.train(matches, m -> true);
+        Ligue1Controller.Prediction prediction = predictor.predict(matches, 0, 1);
+
+        assertEquals(1.0, prediction.getHomeWin() + prediction.getDraw() + prediction.getAwayWin(), 1e-9);
+        assertTrue(prediction.getHomeWin() > 0.6);
+        assertTrue(prediction.getExpectedHomeGoals() > prediction.getExpectedAwayGoals());
+        assertEquals("Lens", prediction.getHome());
+    }
+
+    @Test
+    void extendingWithAppendedResultsMatchesRetraining() {
+        MatchStore earlier = season(4).build();
+        MatchStore later = season(4).add("Lille", "Lens", 2, 2, 5, 35).add("Nice", "Lille", 1, 0, 5, 35).build();
+        MatchPredictor extended = MatchPredictor.train(earlier, m -> true).extendTo(earlier, later);
+        MatchPredictor retrained = MatchPredictor.train(later, m -> true);
+
+        assertEquals(later.size(), extended.recorded());
+        assertEquals(retrained.predict(later, 2, 0).getHomeWin(), extended.predict(later, 2, 0).getHomeWin(), 1e-12);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.l1.ligue1;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SeasonSimulatorTest {
+    private static final String[] KEYS = {"lens", "lille", "nice"};
+
+    @Test
+    void finishedSeasonReproducesTheTable() {
+        MatchStore matches = new MatchStore.Builder(name -> name)
+                .add("Lens", "Lille", 2, 0, 1, 0)
+                .add("Lille", "Nice", 1, 0, 2, 0)
+                .add("Nice", "Lens", 0, 0, 3, 0)
+                .build();
+        List<Ligue1Controller.TeamOdds> odds = new SeasonSimulator(matches, KEYS, null)
+                .simulate("FL1", null, 1000, 1).getTeams();
+
+        assertEquals("Lens", odds.get(0).getTeam());
+        assertEquals(1.0, odds.get(0).getPositions().get(0), 1e-9);
+        assertEquals(4.0, odds.get(0).getExpectedPoints(), 1e-9);
+        assertEquals(3.0, odds.get(2).getExpectedPosition(), 1e-9);
+    }
+
+    @Test
+    void remainingFixturesSpreadTheOddsAndAreReproducible() {
+        MatchStore.Builder builder = new MatchStore.Builder(name -> name);
+        for (int round = 1; round <= 4; round++) {
+            builder.add("Lens", "Lille", 3, 0, round, 0).add("Lille", "Nice", 1, 1, round, 0).add("Nice", "Lens", 0, 2, round, 0);
+        }
+        builder.addFixture("Lille", "Lens", 5).addFixture("Nice", "Lille", 5);
+        MatchStore matches = builder.build();
+        SeasonSimulator simulator = new SeasonSimulator(matches, KEYS, null);
+        Ligue1Controller.SimulationResult first = simulator.simulate("FL1", null, 20000, 7);
+        Ligue1Controller.SimulationResult second = simulator.simulate("FL1", null, 20000, 7);
+
+        assertEquals(2, first.getFixtures());
+        for (Ligue1Controller.TeamOdds team : first.getTeams()) {
+            double total = team.getPositions().stream().mapToDouble(Double::doubleValue).sum();
+            assertEquals(1.0, total, 1e-9);
+        }
+        Ligue1Controller.TeamOdds lens = first.getTeams().get(0);
+        assertEquals("Lens", lens.getTeam());
+        // Lens is already out of reach.
+        assertEquals(1.0, lens.getPositions().get(0), 1e-9);
+        assertTrue(first.getTeams().get(1).getPositions().get(1) < 1.0);
+        assertEquals(first.getTeams().get(1).getPositions(), second.getTeams().get(1).getPositions());
+    }
+}
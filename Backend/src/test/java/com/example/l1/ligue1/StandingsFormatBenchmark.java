@@ -0,0 +1,92 @@
+package com.example.l1.ligue1;
+
+import com.example.l1.TextNormalizer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.example.l1.ligue1.StandingsFormatBenchmark
+// A full 18-team double round robin rendered both ways; main() also prints each format's size.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StandingsFormatBenchmark {
+    private static final int TEAMS = 18;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ObjectMapper cbor = new CBORMapper();
+    MatchStore matches;
+    String[] sortKeys;
+    TeamTable overall;
+    TeamTable home;
+    TeamTable away;
+    Ligue1Controller.StandingsResponse standings;
+    Ligue1Controller.ColumnarStandings columnar;
+
+    @Setup
+    public void setUp() {
+        matches = season();
+        sortKeys = new String[matches.teamCount()];
+        for (int t = 0; t < sortKeys.length; t++) {
+            sortKeys[t] = TextNormalizer.normalize(matches.team(t));
+        }
+        TeamTable[] venues = new TableViews(matches).tables(TableViews.OVERALL, null);
+        home = venues[0];
+        away = venues[1];
+        overall = home.plus(away);
+        standings = Ligue1Service.renderStandings(matches, sortKeys, overall, home, away);
+        columnar = ColumnarFormat.of(matches, sortKeys, overall, home, away);
+    }
+
+    @Benchmark
+    public byte[] rowMapsJson() throws Exception {
+        return json.writeValueAsBytes(standings);
+    }
+
+    @Benchmark
+    public byte[] columnarJson() throws Exception {
+        return json.writeValueAsBytes(columnar);
+    }
+
+    @Benchmark
+    public byte[] columnarCbor() throws Exception {
+        return cbor.writeValueAsBytes(columnar);
+    }
+
+    // Includes building the rows from the counters, which the response cache pays once per data version.
+    @Benchmark
+    public byte[] buildAndColumnarJson() throws Exception {
+        return json.writeValueAsBytes(ColumnarFormat.of(matches, sortKeys, overall, home, away));
+    }
+
+    static MatchStore season() {
+        Random random = new Random(3);
+        MatchStore.Builder builder = new MatchStore.Builder(name -> name);
+        int matchday = 1;
+        for (int h = 0; h < TEAMS; h++) {
+            for (int a = 0; a < TEAMS; a++) {
+                if (h != a) {
+                    builder.add("Team " + h, "Team " + a, random.nextInt(4), random.nextInt(3), matchday, 19000 + matchday);
+                    matchday = matchday % 34 + 1;
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        StandingsFormatBenchmark sizes = new StandingsFormatBenchmark();
+        sizes.setUp();
+        System.out.println("row maps JSON: " + sizes.rowMapsJson().length + " bytes, columnar JSON: "
+                + sizes.columnarJson().length + " bytes, columnar CBOR: " + sizes.columnarCbor().length + " bytes");
+        new Runner(new OptionsBuilder().include(StandingsFormatBenchmark.class.getSimpleName()).build()).run();
+    }
+}
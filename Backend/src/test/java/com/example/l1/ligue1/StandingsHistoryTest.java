@@ -0,0 +1,49 @@
+package com.example.l1.ligue1;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StandingsHistoryTest {
+    // Team ids follow first appearance: Lens 0, Lille 1, Nice 2, Brest 3.
+    private final MatchStore matches = new MatchStore.Builder(name -> name)
+            .add("Lens", "Lille", 2, 0, 1, 100)
+            .add("Nice", "Brest", 1, 1, 1, 101)
+            .add("Lille", "Nice", 3, 0, 2, 107)
+            .add("Brest", "Lens", 2, 1, 2, 108)
+            // Matchday 1 fixture postponed until after matchday 2.
+            .add("Lens", "Nice", 0, 0, 1, 110)
+            .build();
+    private final StandingsHistory history = new StandingsHistory(matches, new String[]{"lens", "lille", "nice", "brest"});
+
+    @Test
+    void tableAfterMatchdayCountsEveryMatchOfThatRound() {
+        TeamTable[] homeAway = history.afterMatchday(1);
+        TeamTable overall = homeAway[0].plus(homeAway[1]);
+
+        assertArrayEquals(new int[]{2, 1, 2, 1}, overall.mp);
+        assertArrayEquals(new int[]{4, 0, 2, 1}, overall.pts);
+        assertArrayEquals(new int[]{1, 0, 0, 0}, homeAway[0].w);
+        assertEquals(0, history.afterMatchday(0)[0].mp[0]);
+    }
+
+    @Test
+    void tableOnDateFollowsKickOffOrder() {
+        TeamTable[] homeAway = history.onDate(108);
+        TeamTable overall = homeAway[0].plus(homeAway[1]);
+
+        assertArrayEquals(new int[]{2, 2, 2, 2}, overall.mp);
+        assertArrayEquals(new int[]{3, 3, 1, 4}, overall.pts);
+    }
+
+    @Test
+    void progressionRanksTeamsAfterEachMatchday() {
+        assertArrayEquals(new int[]{1, 2}, history.matchdays());
+        assertEquals(4, history.pointsAfter(1, 0));
+        // After matchday 2: Brest and Lens level on 4 points, +1 and 3 scored, so the name decides.
+        assertEquals(2, history.positionAfter(1, 0));
+        assertEquals(1, history.positionAfter(1, 3));
+        assertEquals(4, history.positionAfter(1, 2));
+    }
+}
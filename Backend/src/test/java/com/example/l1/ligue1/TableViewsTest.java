@@ -0,0 +1,61 @@
+package com.example.l1.ligue1;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TableViewsTest {
+
+    @Test
+    void halvesSplitTheFullTimeScore() {
+        MatchStore matches = new MatchStore.Builder(name -> name)
+                .add("Lens", "Lille", 2, 1, 0, 1, 1, 100)
+                .add("Lille", "Lens", 1, 1, -1, -1, 2, 107)
+                .build();
+        TableViews views = new TableViews(matches);
+
+        TeamTable[] halfTime = views.tables("halftime", null);
+        TeamTable halfTimeOverall = halfTime[0].plus(halfTime[1]);
+        assertEquals(1, halfTimeOverall.mp[0]);
+        assertEquals(3, halfTimeOverall.pts[1]);
+
+        TeamTable[] secondHalf = views.tables("secondhalf", null);
+        assertEquals(2, secondHalf[0].gf[0]);
+        assertEquals(3, secondHalf[0].pts[0]);
+        assertEquals(0, secondHalf[1].pts[1]);
+
+        TeamTable[] overall = views.tables(TableViews.OVERALL, null);
+        assertEquals(4, overall[0].plus(overall[1]).pts[0]);
+        assertNull(views.tables("bogus", null));
+    }
+
+    @Test
+    void lastFiveAndMonthUseKickOffDates() {
+        MatchStore.Builder builder = new MatchStore.Builder(name -> name);
+        int november = (int) LocalDate.of(2024, 11, 1).toEpochDay();
+        // Seven Lens wins, then a loss listed first but played last.
+        builder.add("Nice", "Lens", 1, 0, 8, november + 7);
+        for (int i = 0; i < 7; i++) {
+            builder.add("Lens", "Nice", 2, 0, i + 1, november - 40 + i);
+        }
+        TableViews views = new TableViews(builder.build());
+
+        TeamTable[] last5 = views.tables("last5", null);
+        TeamTable recent = last5[0].plus(last5[1]);
+        assertEquals(5, recent.mp[1]);
+        assertEquals(12, recent.pts[1]);
+
+        TeamTable[] month = views.tables(TableViews.MONTH, "2024-11");
+        assertEquals(1, month[1].mp[1]);
+        assertEquals(0, month[0].mp[1]);
+        assertTrue(views.hasMonth("2024-11"));
+        assertFalse(views.hasMonth("2025-01"));
+        assertNull(views.tables(TableViews.MONTH, null));
+        assertNull(views.tables(TableViews.MONTH, "2025-01"));
+    }
+}
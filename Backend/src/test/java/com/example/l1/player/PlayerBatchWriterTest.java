@@ -0,0 +1,68 @@
+package com.example.l1.player;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest
+class PlayerBatchWriterTest {
+    private static final int EXTRA_ROWS = PlayerCsvIngester.CHUNK_SIZE + 500;
+
+    @Autowired
+    private PlayerBatchWriter playerBatchWriter;
+    @Autowired
+    private PlayerService playerService;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private PlayerCsvIngester playerCsvIngester;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void ingestLargerThanOneChunkMergesEveryRow() throws Exception {
+        // Start from the live file, so the ingest only adds rows and the cleanup ingest takes them out again.
+        List<String> original = Files.readAllLines(playerCsvIngester.getCsvPath(), StandardCharsets.UTF_8);
+        List<String> grown = new ArrayList<>(original);
+        for (int i = 0; i < EXTRA_ROWS; i++) {
+            grown.add("Batch Probe " + i + ",fr FRA,MF," + (18 + i % 20) + ",20,15,1500.0," + (i % 7) + ".0,3.0,0.0,2.0,0.0,4.5,2.5,Lens");
+        }
+        Path csv = dir.resolve("players.csv");
+        Files.write(csv, grown, StandardCharsets.UTF_8);
+        PlayerCsvIngester ingester = new PlayerCsvIngester(playerBatchWriter, playerService, csv.toString());
+        long before = playerRepository.count();
+        long version = playerService.getVersion();
+
+        try {
+            PlayerController.ReloadResult result = ingester.ingest();
+            assertEquals(EXTRA_ROWS, result.getChanged());
+            assertEquals(before + EXTRA_ROWS, playerRepository.count());
+            assertEquals(version + 1, playerService.getVersion());
+
+            for (int i : new int[]{0, PlayerCsvIngester.CHUNK_SIZE - 1, PlayerCsvIngester.CHUNK_SIZE, EXTRA_ROWS - 1}) {
+                Player stored = playerRepository.findByName("Batch Probe " + i).get();
+                assertEquals(18 + i % 20, stored.getAge());
+                assertEquals(i % 7, stored.getGls());
+                assertEquals(1500.0, stored.getMin());
+                assertEquals(4.5, stored.getXg());
+                assertEquals("Lens", stored.getTeam());
+            }
+        } finally {
+            Files.write(csv, original, StandardCharsets.UTF_8);
+            ingester.ingest();
+        }
+        assertEquals(before, playerRepository.count());
+        assertFalse(playerRepository.findByName("Batch Probe 0").isPresent());
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.l1.player;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PlayerControllerTest {
+    private static final String PLAYER = "{\"name\":\"Etag Probe\",\"nation\":\"fr FRA\",\"pos\":\"MF\",\"age\":24,"
+            + "\"mp\":10,\"starts\":8,\"min\":700,\"gls\":1,\"ast\":2,\"pk\":0,\"crdy\":1,\"crdr\":0,"
+            + "\"xg\":1.1,\"xag\":1.4,\"team\":\"Lens\"}";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void writesChangeTheEtagAndMatchingTagsGet304() throws Exception {
+        for (String path : new String[]{"/api/v1/player/search?q=etag", "/api/v1/player?team=Lens"}) {
+            String before = etag(path);
+            mvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, before)).andExpect(status().isNotModified());
+
+            String after;
+            try {
+                mvc.perform(post("/api/v1/player").contentType(MediaType.APPLICATION_JSON).content(PLAYER))
+                        .andExpect(status().isCreated());
+                mvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, before)).andExpect(status().isOk());
+                after = etag(path);
+                assertNotEquals(before, after);
+                mvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, after)).andExpect(status().isNotModified());
+            } finally {
+                // The in-memory database outlives this context; leave it as the other tests expect.
+                mvc.perform(delete("/api/v1/player/Etag Probe")).andExpect(status().isOk());
+            }
+            mvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, after)).andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    void playerWritesLeaveMatchTagsAlone() throws Exception {
+        String standings = etag("/api/v1/ligue1/standings");
+        try {
+            mvc.perform(post("/api/v1/player").contentType(MediaType.APPLICATION_JSON).content(PLAYER))
+                    .andExpect(status().isCreated());
+        } finally {
+            mvc.perform(delete("/api/v1/player/Etag Probe")).andExpect(status().isOk());
+        }
+        mvc.perform(get("/api/v1/ligue1/standings").header(HttpHeaders.IF_NONE_MATCH, standings))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void playerPostedWithoutStatsIsListedAndSearchable() throws Exception {
+        String bare = "{\"name\":\"Test Guy\",\"team\":\"Lyon\",\"pos\":\"FW\",\"nation\":\"fr FRA\"}";
+        try {
+            mvc.perform(post("/api/v1/player").contentType(MediaType.APPLICATION_JSON).content(bare))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.gls").value(0.0));
+            // Player lists stream their body, so it only exists after the async dispatch.
+            MvcResult team = mvc.perform(get("/api/v1/player?team=Lyon")).andReturn();
+            mvc.perform(asyncDispatch(team)).andExpect(status().isOk())
+                    .andExpect(jsonPath("$[?(@.name == 'Test Guy')].min").value(0.0));
+            mvc.perform(get("/api/v1/player/search?q=test guy")).andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].name").value("Test Guy"));
+        } finally {
+            mvc.perform(delete("/api/v1/player/Test Guy")).andExpect(status().isOk());
+        }
+    }
+
+    private String etag(String path) throws Exception {
+        String tag = mvc.perform(get(path)).andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(tag);
+        return tag;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.l1.player;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PlayerCsvIngesterTest {
+    private static final String HEADER = "Player,Nation,Pos,Age,MP,Starts,Min,Gls,Ast,PK,CrdY,CrdR,xG,xAG,Team";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void reingestWritesOnlyChangedAndRemovedRows() throws IOException {
+        Path csv = dir.resolve("players.csv");
+        write(csv, row("Alpha", 3), row("Bravo", 5), row("Charlie", 7));
+        RecordingWriter writer = new RecordingWriter();
+        RecordingService service = new RecordingService();
+        PlayerCsvIngester ingester = new PlayerCsvIngester(writer, service, csv.toString());
+
+        PlayerController.ReloadResult first = ingester.ingest();
+        assertEquals(3, first.getChanged());
+        assertEquals(new HashSet<>(Arrays.asList("Alpha", "Bravo", "Charlie")), service.reloaded);
+
+        // Bravo scores again, Charlie leaves, Alpha is untouched.
+        write(csv, row("Alpha", 3), row("Bravo", 6));
+        PlayerController.ReloadResult second = ingester.ingest();
+
+        assertEquals(1, second.getChanged());
+        assertEquals(1, second.getRemoved());
+        assertEquals(Collections.singletonList("Bravo"), names(writer.changed));
+        assertEquals(Collections.singletonList("Charlie"), writer.removed);
+        assertEquals(Collections.singleton("Bravo"), writer.hashes.keySet());
+        assertEquals(Collections.singletonList("Bravo"), names(service.saved));
+        assertEquals(Collections.singletonList("Charlie"), service.removed);
+
+        PlayerController.ReloadResult third = ingester.ingest();
+        assertEquals(0, third.getChanged());
+        assertEquals(0, third.getRemoved());
+        assertEquals(Collections.emptyList(), writer.changed);
+    }
+
+    @Test
+    void quotedFieldsParseAndBadRowsAreReportedNotWritten() throws IOException {
+        Path csv = dir.resolve("players.csv");
+        write(csv, "\"Doe, John\",fr FRA,\"DF,MF\",25,30,28,2500,1,2,0,3,0,4.1,1.2,\"Paris, FC\"",
+                "Short Row,fr FRA,FW,25",
+                "Bad Goals,fr FRA,FW,25,30,28,2500,lots,2,0,3,0,4.1,1.2,Lens",
+                row("Alpha", 3));
+        RecordingWriter writer = new RecordingWriter();
+        PlayerCsvIngester ingester = new PlayerCsvIngester(writer, new RecordingService(), csv.toString());
+
+        PlayerController.ReloadResult result = ingester.ingest();
+
+        assertEquals(2, result.getChanged());
+        assertEquals(2, result.getRejected());
+        assertEquals(Arrays.asList("Alpha", "Doe, John"), names(writer.changed));
+        assertEquals(new HashSet<>(Arrays.asList("Alpha", "Doe, John")), writer.hashes.keySet());
+        Player doe = writer.changed.stream().filter(p -> p.getName().equals("Doe, John")).findFirst().get();
+        assertEquals("DF,MF", doe.getPos());
+        assertEquals("Paris, FC", doe.getTeam());
+        assertEquals(1.2, doe.getXag());
+    }
+
+    private static String row(String name, int goals) {
+        return name + ",fr FRA,FW,25,30,28,2500," + goals + ",2,0,3,0,4.1,1.2,Lens";
+    }
+
+    private static void write(Path csv, String... rows) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        lines.addAll(Arrays.asList(rows));
+        Files.write(csv, lines, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> names(Collection<Player> players) {
+        return players.stream().map(Player::getName).sorted().collect(Collectors.toList());
+    }
+
+    private static class RecordingWriter extends PlayerBatchWriter {
+        List<Player> changed = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        Map<String, Long> hashes = new HashMap<>();
+
+        RecordingWriter() {
+            super(null);
+        }
+
+        @Override
+        public Map<String, Long> loadChecksums() {
+            return new HashMap<>();
+        }
+
+        @Override
+        public void applyChanges(List<Player> changed, Collection<String> removed, Map<String, Long> changedHashes) {
+            this.changed = new ArrayList<>(changed);
+            this.removed = new ArrayList<>(removed);
+            this.hashes = new HashMap<>(changedHashes);
+        }
+    }
+
+    private static class RecordingService extends PlayerService {
+        Collection<String> reloaded = new HashSet<>();
+        Collection<Player> saved = new ArrayList<>();
+        Collection<String> removed = new ArrayList<>();
+
+        RecordingService() {
+            super(null, null, null, null, null, null, null, null);
+        }
+
+        @Override
+        public void reload(Collection<Player> players) {
+            players.forEach(p -> reloaded.add(p.getName()));
+        }
+
+        @Override
+        public void applyChanges(Collection<Player> saved, Collection<String> removed) {
+            this.saved = new ArrayList<>(saved);
+            this.removed = new ArrayList<>(removed);
+        }
+    }
+}
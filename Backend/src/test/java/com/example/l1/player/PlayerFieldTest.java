@@ -0,0 +1,40 @@
+package com.example.l1.player;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PlayerFieldTest {
+    private final PlayerService service = new PlayerService(null, null, null, null, null, null, null, null);
+
+    @Test
+    void sortsPlayersWithMissingStatsAndFields() {
+        Player scorer = new Player("Scorer", "fr FRA", "FW", 25, 30, 28, 2500, 12, 3, 1, 2, 0, 9.5, 2.1, "Lens");
+        Player bare = new Player("Bare");
+        Player other = new Player("Other", "fr FRA", "MF", 27, 20, 10, 900, 2, 5, 0, 4, 1, 1.5, 4.0, "Lyon");
+        List<Player> players = Arrays.asList(scorer, bare, other);
+
+        for (PlayerField field : PlayerField.values()) {
+            if (field == PlayerField.POINTS) {
+                continue;
+            }
+            Comparator<Player> order = field.comparator(null).thenComparing(Player::getName);
+            assertEquals(3, service.page(players, order, 0, 10).size(), field.getKey());
+            assertEquals(2, service.page(players, order.reversed(), 0, 2).size(), field.getKey());
+        }
+
+        Comparator<Player> byGoals = PlayerField.GLS.comparator(null).reversed().thenComparing(Player::getName);
+        assertEquals(Arrays.asList("Scorer", "Other", "Bare"), names(service.page(players, byGoals, 0, 10)));
+        Comparator<Player> byTeam = PlayerField.TEAM.comparator(null).thenComparing(Player::getName);
+        assertEquals(Arrays.asList("Scorer", "Other", "Bare"), names(service.page(players, byTeam, 0, 10)));
+    }
+
+    private static List<String> names(List<Player> players) {
+        return players.stream().map(Player::getName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.l1.player;
+
+import com.example.l1.team.TeamResolver;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.example.l1.player.PlayerIndexBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerIndexBenchmark {
+    private static final String[] POSITIONS = {"GK", "DF", "MF", "FW", "DF,MF", "FW,MF"};
+    private static final String[] NATIONS = {"fr FRA", "br BRA", "ma MAR", "sn SEN", "es ESP", "pt POR", "ci CIV", "de GER"};
+
+    @Param({"130", "1000", "10000", "100000"})
+    public int players;
+
+    private List<Player> table;
+    private PlayerIndex index;
+    private String team;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int teams = Math.max(18, players / 25);
+        table = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            table.add(new Player(
+                    "Player " + i,
+                    NATIONS[random.nextInt(NATIONS.length)],
+                    POSITIONS[random.nextInt(POSITIONS.length)],
+                    18 + random.nextInt(18),
+                    random.nextInt(38),
+                    random.nextInt(38),
+                    random.nextInt(3400),
+                    random.nextInt(20),
+                    random.nextInt(12),
+                    random.nextInt(5),
+                    random.nextInt(10),
+                    random.nextInt(2),
+                    random.nextDouble() * 20,
+                    random.nextDouble() * 10,
+                    "Team " + (i % teams)));
+        }
+        index = new PlayerIndex(new TeamResolver());
+        index.playersLoaded(table);
+        team = "Team " + (teams / 2);
+    }
+
+    @Benchmark
+    public List<Player> teamScan() {
+        return table.stream()
+                .filter(player -> team.equals(player.getTeam()))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Player> teamIndex() {
+        return index.byTeam(team);
+    }
+
+    @Benchmark
+    public List<Player> teamAndPositionScan() {
+        return table.stream()
+                .filter(player -> team.equals(player.getTeam()) && player.getPos().contains("FW"))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Player> teamAndPositionIndex() {
+        return index.byTeamAndPosition(team, "FW");
+    }
+
+    @Benchmark
+    public List<Player> nationScan() {
+        return table.stream()
+                .filter(player -> player.getNation().toLowerCase().contains("mar"))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Player> nationIndex() {
+        return index.byNation("MAR");
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(PlayerIndexBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.l1.player;
+
+import com.example.l1.team.TeamResolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PlayerIndexTest {
+
+    @Test
+    void lookalikeClubKeepsItsOwnBucketBeforeAndAfterRegistration() {
+        TeamResolver resolver = new TeamResolver();
+        PlayerIndex index = new PlayerIndex(resolver);
+        // "Paris FC" is not an alias, but a fuzzy match would file it under PSG ("paris" is).
+        index.playersLoaded(Arrays.asList(
+                player("Dembélé", "FW", "Paris-Saint-Germain"),
+                player("Kebbal", "MF", "Paris FC"),
+                player("Lopez", "FW", "Paris FC")));
+
+        assertEquals(Collections.singletonList("Dembélé"), names(index.byTeam("PSG")));
+        assertEquals(Arrays.asList("Kebbal", "Lopez"), names(index.byTeam("Paris FC")));
+        assertEquals(Collections.singletonList("Lopez"), names(index.byTeamAndPosition("paris fc", "FW")));
+
+        // Matches loaded later register the club; the keys follow.
+        resolver.register("Paris FC");
+        assertEquals(Arrays.asList("Kebbal", "Lopez"), names(index.byTeam("Paris FC")));
+        assertEquals(Collections.singletonList("Dembélé"), names(index.byTeam("Paris Saint Germain")));
+        assertEquals(Collections.singletonList("Dembélé"), names(index.byTeam("Pari Saint-Germain")));
+    }
+
+    private static Player player(String name, String pos, String team) {
+        return new Player(name, "fr FRA", pos, 25, 30, 25, 2000, 3, 1, 0, 2, 0, 2.5, 1.0, team);
+    }
+
+    private static List<String> names(List<Player> players) {
+        return players.stream().map(Player::getName).sorted().collect(Collectors.toList());
+    }
+}
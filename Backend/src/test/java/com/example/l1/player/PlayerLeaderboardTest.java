@@ -0,0 +1,101 @@
+package com.example.l1.player;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PlayerLeaderboardTest {
+
+    @Test
+    void boardsFollowSavesAndRemovals() {
+        PlayerLeaderboard board = new PlayerLeaderboard();
+        board.playersLoaded(Arrays.asList(
+                player("Alpha", "FW", 10, 2000),
+                player("Bravo", "FW", 8, 2000),
+                player("Charlie", "MF", 6, 2000)));
+        assertEquals(Arrays.asList("Alpha", "Bravo"), names(board.leaders(PlayerStat.GLS, "FW", 0, 10)));
+
+        // Bravo overtakes Alpha, Charlie becomes a forward, Alpha leaves.
+        board.playerSaved(player("Bravo", "FW", 12, 2000));
+        assertEquals(Arrays.asList("Bravo", "Alpha"), names(board.leaders(PlayerStat.GLS, "FW", 0, 10)));
+        board.playerSaved(player("Charlie", "FW,MF", 11, 2000));
+        board.playerRemoved("Alpha");
+
+        assertEquals(Arrays.asList("Bravo", "Charlie"), names(board.leaders(PlayerStat.GLS, "FW", 0, 10)));
+        assertEquals(Arrays.asList("Charlie"), names(board.leaders(PlayerStat.GLS, "MF", 0, 10)));
+        assertEquals(Arrays.asList("Bravo"), names(board.leaders(PlayerStat.GLS, null, 0, 1)));
+    }
+
+    @Test
+    void minutesFilterBeforeRankingAndPer90DefaultsToAMinimum() {
+        PlayerLeaderboard board = new PlayerLeaderboard();
+        board.playersLoaded(Arrays.asList(
+                player("Cameo", "FW", 2, 90),
+                player("Regular", "FW", 10, 2000),
+                player("Rotation", "FW", 5, 950)));
+        double defaultMinimum = PlayerStat.GLS_90.defaultMinMinutes();
+
+        assertEquals(Arrays.asList("Cameo", "Rotation", "Regular"), names(board.leaders(PlayerStat.GLS_90, "FW", 0, 10)));
+        assertEquals(Arrays.asList("Rotation", "Regular"), names(board.leaders(PlayerStat.GLS_90, "FW", defaultMinimum, 10)));
+        assertEquals(Arrays.asList("Regular"), names(board.leaders(PlayerStat.GLS_90, "FW", 1000, 10)));
+        assertEquals(0.0, PlayerStat.GLS.defaultMinMinutes());
+
+        // Crossing a floor moves a player onto the boards above it.
+        board.playerSaved(player("Cameo", "FW", 6, 1000));
+        assertEquals(Arrays.asList("Cameo", "Regular"), names(board.leaders(PlayerStat.GLS_90, "FW", 1000, 10)));
+        assertEquals(Arrays.asList("Cameo", "Rotation", "Regular"), names(board.leaders(PlayerStat.GLS_90, "FW", defaultMinimum, 10)));
+    }
+
+    @Test
+    void incrementalBoardsMatchARebuild() {
+        Random random = new Random(17);
+        String[] positions = {"GK", "DF", "MF", "FW", "DF,MF", "FW,MF"};
+        Map<String, Player> current = new LinkedHashMap<>();
+        for (int i = 0; i < 200; i++) {
+            Player p = player("P" + i, positions[random.nextInt(positions.length)], random.nextInt(6), 90 * random.nextInt(30));
+            current.put(p.getName(), p);
+        }
+        PlayerLeaderboard incremental = new PlayerLeaderboard();
+        incremental.playersLoaded(new ArrayList<>(current.values()));
+        for (String pos : Arrays.asList(null, "FW", "MF")) {
+            incremental.leaders(PlayerStat.GLS_90, pos, 0, 5);
+            incremental.leaders(PlayerStat.GLS_90, pos, 450, 5);
+        }
+        for (int step = 0; step < 300; step++) {
+            String name = "P" + random.nextInt(250);
+            if (random.nextInt(4) == 0) {
+                current.remove(name);
+                incremental.playerRemoved(name);
+            } else {
+                Player p = player(name, positions[random.nextInt(positions.length)], random.nextInt(6), 90 * random.nextInt(30));
+                current.put(name, p);
+                incremental.playerSaved(p);
+            }
+        }
+
+        PlayerLeaderboard rebuilt = new PlayerLeaderboard();
+        rebuilt.playersLoaded(new ArrayList<>(current.values()));
+        for (String pos : Arrays.asList(null, "FW", "MF")) {
+            for (double minMinutes : new double[]{0, 450, 500}) {
+                assertEquals(names(rebuilt.leaders(PlayerStat.GLS_90, pos, minMinutes, 50)),
+                        names(incremental.leaders(PlayerStat.GLS_90, pos, minMinutes, 50)));
+            }
+        }
+    }
+
+    static Player player(String name, String pos, int goals, double minutes) {
+        return new Player(name, "fr FRA", pos, 25, 30, 25, minutes, goals, 1, 0, 2, 0, goals * 0.9, 1.0, "Lens");
+    }
+
+    private static List<String> names(List<PlayerController.Leader> leaders) {
+        return leaders.stream().map(PlayerController.Leader::getName).collect(Collectors.toList());
+    }
+}
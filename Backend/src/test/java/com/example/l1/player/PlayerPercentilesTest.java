@@ -0,0 +1,81 @@
+package com.example.l1.player;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static com.example.l1.player.PlayerLeaderboardTest.player;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PlayerPercentilesTest {
+
+    @Test
+    void ranksShiftWhenPlayersChangeOrLeave() {
+        PlayerPercentiles percentiles = new PlayerPercentiles();
+        percentiles.playersLoaded(Arrays.asList(
+                player("Alpha", "FW", 10, 2000),
+                player("Bravo", "FW", 8, 2000),
+                player("Charlie", "FW", 6, 2000),
+                player("Delta", "MF", 2, 2000)));
+        assertEquals(83.3, gls(percentiles, "Alpha", "FW"));
+        assertEquals(3, percentiles.profile("Alpha", "FW").getPeers());
+
+        percentiles.playerSaved(player("Charlie", "FW", 12, 2000));
+        assertEquals(50.0, gls(percentiles, "Alpha", "FW"));
+        percentiles.playerRemoved("Bravo");
+        assertEquals(25.0, gls(percentiles, "Alpha", "FW"));
+        assertEquals(2, percentiles.profile("Alpha", "FW").getPeers());
+
+        // Moving the last midfielder away drops the group.
+        percentiles.playerSaved(player("Delta", "DF", 2, 2000));
+        assertNull(percentiles.profile("Delta", "MF"));
+        assertEquals(50.0, gls(percentiles, "Delta", null));
+        assertNull(percentiles.profile("Bravo", null));
+    }
+
+    @Test
+    void incrementalColumnsMatchARebuild() {
+        Random random = new Random(23);
+        String[] positions = {"GK", "DF", "MF", "FW", "DF,MF", "FW,MF"};
+        Map<String, Player> current = new LinkedHashMap<>();
+        for (int i = 0; i < 150; i++) {
+            current.put("P" + i, player("P" + i, positions[random.nextInt(positions.length)], random.nextInt(6), 90 * (1 + random.nextInt(30))));
+        }
+        PlayerPercentiles incremental = new PlayerPercentiles();
+        incremental.playersLoaded(new ArrayList<>(current.values()));
+        for (int step = 0; step < 300; step++) {
+            String name = "P" + random.nextInt(200);
+            if (random.nextInt(4) == 0) {
+                current.remove(name);
+                incremental.playerRemoved(name);
+            } else {
+                Player p = player(name, positions[random.nextInt(positions.length)], random.nextInt(6), 90 * (1 + random.nextInt(30)));
+                current.put(name, p);
+                incremental.playerSaved(p);
+            }
+        }
+
+        PlayerPercentiles rebuilt = new PlayerPercentiles();
+        rebuilt.playersLoaded(new ArrayList<>(current.values()));
+        for (String name : current.keySet()) {
+            for (String pos : Arrays.asList(null, "ALL", "FW", "MF")) {
+                PlayerController.PercentileProfile expected = rebuilt.profile(name, pos);
+                PlayerController.PercentileProfile actual = incremental.profile(name, pos);
+                assertEquals(expected == null, actual == null, name + " " + pos);
+                if (expected != null) {
+                    assertEquals(expected.getPeers(), actual.getPeers());
+                    assertEquals(expected.getPercentiles(), actual.getPercentiles(), name + " " + pos);
+                }
+            }
+        }
+    }
+
+    private static double gls(PlayerPercentiles percentiles, String name, String pos) {
+        return percentiles.profile(name, pos).getPercentiles().get("gls");
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.l1.player;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.example.l1.player.PlayerSearchIndexBenchmark
+// Typeahead keystrokes against a large synthetic player table; one- and two-letter queries match the most names.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerSearchIndexBenchmark {
+    private static final String[] SYLLABLES = {"ba", "ma", "de", "lo", "ri", "su", "ka", "ne", "to", "mi", "ou", "ré", "é", "an", "co"};
+
+    @Param({"100000", "300000"})
+    public int players;
+
+    @Param({"m", "ma", "mar", "dembe"})
+    public String query;
+
+    private PlayerSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(11);
+        List<Player> table = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            table.add(new Player(word(random) + " " + word(random) + " " + i));
+        }
+        index = new PlayerSearchIndex();
+        index.playersLoaded(table);
+    }
+
+    @Benchmark
+    public List<Player> search() {
+        return index.search(query, 10);
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int syllables = 2 + random.nextInt(3);
+        for (int s = 0; s < syllables; s++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        word.setCharAt(0, Character.toUpperCase(word.charAt(0)));
+        return word.toString();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(PlayerSearchIndexBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.l1.player;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerSearchIndexTest {
+    private PlayerSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerSearchIndex();
+        index.playersLoaded(Arrays.asList(
+                new Player("Ousmane Dembélé"),
+                new Player("Bradley Barcola"),
+                new Player("Barco"),
+                new Player("Nuno Mendes"),
+                new Player("Desiré Doué")));
+    }
+
+    @Test
+    void foldsAccents() {
+        assertEquals(Arrays.asList("Ousmane Dembélé"), names(index.search("dembele", 10)));
+        assertEquals(Arrays.asList("Desiré Doué"), names(index.search("DOUE", 10)));
+    }
+
+    @Test
+    void ranksExactThenPrefixThenSubstring() {
+        index.playerSaved(new Player("Ibarco"));
+        assertEquals(Arrays.asList("Barco", "Bradley Barcola", "Ibarco"), names(index.search("barco", 10)));
+    }
+
+    @Test
+    void shortQueriesMatchSubstringsAfterWordPrefixes() {
+        assertEquals(Arrays.asList("Nuno Mendes", "Ousmane Dembélé"), names(index.search("m", 10)));
+        assertEquals(Arrays.asList("Bradley Barcola"), names(index.search("y", 10)));
+        assertEquals(Arrays.asList("Nuno Mendes"), names(index.search("nu", 10)));
+    }
+
+    @Test
+    void followsUpdatesAndRemovals() {
+        index.playerRemoved("Barco");
+        index.playerSaved(new Player("Désiré Doué"));
+        index.playerRemoved("Desiré Doué");
+
+        assertEquals(Arrays.asList("Bradley Barcola"), names(index.search("barco", 10)));
+        assertEquals(Arrays.asList("Désiré Doué"), names(index.search("desire", 10)));
+        assertTrue(index.search("xyz", 10).isEmpty());
+    }
+
+    private static List<String> names(List<Player> players) {
+        return players.stream().map(Player::getName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.l1.player;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@Import(PlayerServiceTest.FlakyListenerConfig.class)
+class PlayerServiceTest {
+    private static final String NAME = "Consistency Probe";
+
+    @Autowired
+    private PlayerService playerService;
+    @Autowired
+    private PlayerRepository playerRepository;
+    @Autowired
+    private FlakyListener flakyListener;
+
+    @Test
+    void indexesFollowTheTableOnAddUpdateAndDeleteEvenWhenAListenerThrows() {
+        try {
+            Player player = new Player(NAME);
+            player.setTeam("Lyon");
+            player.setPos("FW");
+            player.setNation("fr FRA");
+            flakyListener.failNext = true;
+            long before = playerService.getVersion();
+            playerService.addPlayer(player);
+            assertTrue(playerService.getVersion() > before);
+            assertConsistent();
+            assertTrue(names(playerService.getPlayersFromTeam("Lyon")).contains(NAME));
+            assertTrue(names(playerService.searchPlayers("consistency probe", 10)).contains(NAME));
+            assertEquals(0.0, playerRepository.findByName(NAME).get().getGls());
+
+            Player moved = new Player(NAME);
+            moved.setTeam("Lens");
+            moved.setPos("FW");
+            moved.setNation("fr FRA");
+            flakyListener.failNext = true;
+            playerService.updatePlayer(moved);
+            assertConsistent();
+            assertFalse(names(playerService.getPlayersFromTeam("Lyon")).contains(NAME));
+            assertTrue(names(playerService.getPlayersFromTeam("Lens")).contains(NAME));
+
+            flakyListener.failNext = true;
+            playerService.deletePlayer(NAME);
+            assertConsistent();
+            assertFalse(names(playerService.getPlayersFromTeam("Lens")).contains(NAME));
+            assertFalse(names(playerService.searchPlayers("consistency probe", 10)).contains(NAME));
+        } finally {
+            flakyListener.failNext = false;
+            if (playerRepository.findByName(NAME).isPresent()) {
+                playerService.deletePlayer(NAME);
+            }
+        }
+    }
+
+    private void assertConsistent() {
+        assertFalse(flakyListener.failNext);
+        Set<String> table = new TreeSet<>(names(playerRepository.findAll()));
+        assertEquals(table, new TreeSet<>(names(playerService.getPlayers())));
+    }
+
+    private static List<String> names(Collection<Player> players) {
+        return players.stream().map(Player::getName).collect(Collectors.toList());
+    }
+
+    /** Throws on the next change it is told about, once. */
+    static class FlakyListener implements PlayerChangeListener {
+        volatile boolean failNext;
+
+        @Override
+        public void playersLoaded(Collection<Player> players) {
+        }
+
+        @Override
+        public void playerSaved(Player player) {
+            fail();
+        }
+
+        @Override
+        public void playerRemoved(String name) {
+            fail();
+        }
+
+        private void fail() {
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("listener failure");
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class FlakyListenerConfig {
+        @Bean
+        FlakyListener flakyListener() {
+            return new FlakyListener();
+        }
+    }
+}
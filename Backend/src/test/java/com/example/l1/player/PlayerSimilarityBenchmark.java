@@ -0,0 +1,98 @@
+package com.example.l1.player;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.example.l1.player.PlayerSimilarityBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerSimilarityBenchmark {
+    private static final int K = 10;
+
+    @Param({"10000", "100000", "300000"})
+    public int players;
+
+    private double[] vectors;
+    private int dims;
+    private VpTree tree;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        Random data = new Random(42);
+        List<Player> pool = new ArrayList<>(players);
+        for (int i = 0; i < players; i++) {
+            // Minutes drive the counting stats, which gives the vectors the correlated shape real data has.
+            double minutes = data.nextInt(3400);
+            double share = minutes / 3400.0;
+            double quality = data.nextDouble();
+            pool.add(new Player("Player " + i, "fr FRA", "FW", 25, (int) (share * 34), (int) (share * 30), minutes,
+                    Math.round(quality * 20 * share), Math.round(data.nextDouble() * 10 * share), data.nextInt(4),
+                    data.nextInt(10), data.nextInt(2), quality * 18 * share, data.nextDouble() * 9 * share, "Team"));
+        }
+        vectors = PlayerSimilarity.zScored(pool);
+        dims = PlayerSimilarity.dimensions();
+        int[] ids = new int[players];
+        for (int i = 0; i < players; i++) {
+            ids[i] = i;
+        }
+        tree = new VpTree(vectors, dims, ids);
+        random = new Random(7);
+    }
+
+    @Benchmark
+    public int[] vpTree() {
+        int id = random.nextInt(players);
+        return tree.nearest(row(id), K, id);
+    }
+
+    @Benchmark
+    public int[] linearScan() {
+        int id = random.nextInt(players);
+        double[] query = row(id);
+        int[] best = new int[K];
+        double[] bestDist = new double[K];
+        java.util.Arrays.fill(bestDist, Double.POSITIVE_INFINITY);
+        for (int i = 0; i < players; i++) {
+            if (i == id) {
+                continue;
+            }
+            double sum = 0;
+            for (int d = 0; d < dims; d++) {
+                double diff = query[d] - vectors[i * dims + d];
+                sum += diff * diff;
+            }
+            if (sum < bestDist[K - 1]) {
+                int at = K - 1;
+                while (at > 0 && bestDist[at - 1] > sum) {
+                    bestDist[at] = bestDist[at - 1];
+                    best[at] = best[at - 1];
+                    at--;
+                }
+                bestDist[at] = sum;
+                best[at] = i;
+            }
+        }
+        return best;
+    }
+
+    private double[] row(int id) {
+        double[] out = new double[dims];
+        System.arraycopy(vectors, id * dims, out, 0, dims);
+        return out;
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder().include(PlayerSimilarityBenchmark.class.getSimpleName()).build()).run();
+    }
+}
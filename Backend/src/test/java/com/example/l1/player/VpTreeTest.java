@@ -0,0 +1,78 @@
+package com.example.l1.player;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VpTreeTest {
+    private static final int DIMS = 5;
+
+    @Test
+    void nearestMatchesALinearScan() {
+        Random random = new Random(31);
+        for (int size : new int[]{1, 2, 3, 7, 64, 500}) {
+            double[] vectors = randomVectors(random, size * 2);
+            // Trees cover a subset of rows, like a per-position tree does.
+            int[] ids = new int[size];
+            for (int i = 0; i < size; i++) {
+                ids[i] = 2 * i + 1;
+            }
+            VpTree tree = new VpTree(vectors, DIMS, ids);
+            for (int q = 0; q < 50; q++) {
+                double[] query = randomVectors(random, 1);
+                int k = 1 + random.nextInt(12);
+                int exclude = random.nextBoolean() ? ids[random.nextInt(size)] : -1;
+                assertArrayEquals(bruteForce(tree, ids, query, k, exclude), tree.nearest(query, k, exclude),
+                        "size " + size + ", k " + k + ", exclude " + exclude);
+            }
+        }
+    }
+
+    @Test
+    void largeKReturnsEveryOtherRowAndDuplicatesAreKept() {
+        double[] vectors = new double[6 * DIMS];
+        // Rows 0..2 share one point; 3..5 sit further out.
+        for (int row = 3; row < 6; row++) {
+            Arrays.fill(vectors, row * DIMS, (row + 1) * DIMS, row);
+        }
+        int[] ids = {0, 1, 2, 3, 4, 5};
+        VpTree tree = new VpTree(vectors, DIMS, ids);
+        double[] origin = new double[DIMS];
+
+        int[] all = tree.nearest(origin, 20, 1);
+        assertEquals(5, all.length);
+        assertEquals(Arrays.asList(0, 2), sorted(all[0], all[1]));
+        assertArrayEquals(new int[]{3, 4, 5}, Arrays.copyOfRange(all, 2, 5));
+        assertEquals(0, tree.nearest(origin, 0, -1).length);
+    }
+
+    private static int[] bruteForce(VpTree tree, int[] ids, double[] query, int k, int exclude) {
+        List<Integer> candidates = new ArrayList<>();
+        for (int id : ids) {
+            if (id != exclude) {
+                candidates.add(id);
+            }
+        }
+        candidates.sort(Comparator.comparingDouble(id -> tree.distance(query, id)));
+        return candidates.subList(0, Math.min(k, candidates.size())).stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static double[] randomVectors(Random random, int rows) {
+        double[] out = new double[rows * DIMS];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = random.nextGaussian();
+        }
+        return out;
+    }
+
+    private static List<Integer> sorted(int a, int b) {
+        return Arrays.asList(Math.min(a, b), Math.max(a, b));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.l1.team;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class TeamResolverTest {
+    private final TeamResolver resolver = new TeamResolver();
+
+    @Test
+    void everyKnownSpellingResolvesToOneTeam() {
+        int psg = resolver.resolve("Paris Saint-Germain FC");
+
+        assertEquals(psg, resolver.resolve("Paris-Saint-Germain"));
+        assertEquals(psg, resolver.resolve("PSG"));
+        assertEquals(psg, resolver.register("Paris Saint-Germain FC"));
+        assertEquals("Paris Saint-Germain", resolver.name(psg));
+        assertEquals("Le Havre", resolver.canonicalName("Le-Havre"));
+        assertEquals("Saint-Etienne", resolver.canonicalName("saint etienne"));
+    }
+
+    @Test
+    void fuzzyFallbackNeedsAUniqueMatch() {
+        assertEquals("Marseille", resolver.canonicalName("Marseile"));
+        assertEquals("Strasbourg", resolver.canonicalName("strasbourg alsace"));
+        // "Stade" is part of Brest, Rennes and Reims.
+        assertEquals(-1, resolver.resolve("Stade"));
+        assertEquals("Stade", resolver.canonicalName("Stade"));
+    }
+
+    @Test
+    void registeredTeamsNeverMergeIntoAnAlias() {
+        int parisFc = resolver.register("Paris FC");
+
+        assertNotEquals(resolver.resolve("PSG"), parisFc);
+        assertEquals("Paris FC", resolver.name(parisFc));
+        assertEquals(parisFc, resolver.resolve("Paris FC"));
+        assertEquals("Arsenal", resolver.name(resolver.register("Arsenal FC")));
+    }
+
+    @Test
+    void exactNameUsesAliasesOnly() {
+        assertEquals("Paris Saint-Germain", resolver.exactName("Paris-Saint-Germain"));
+        // canonicalName would guess PSG here.
+        assertEquals("parisfc", resolver.exactName("Paris FC"));
+        int before = resolver.generation();
+        resolver.register("Paris FC");
+        assertEquals("Paris FC", resolver.exactName("Paris FC"));
+        assertNotEquals(before, resolver.generation());
+    }
+
+    @Test
+    void missesRacingARegistrationAreNotKept() throws InterruptedException {
+        String name = "zeta rovers";
+        for (int round = 0; round < 50; round++) {
+            TeamResolver fresh = new TeamResolver();
+            AtomicBoolean done = new AtomicBoolean();
+            // Every case variant is its own memo key, so the reader keeps computing misses while the team registers.
+            Thread reader = new Thread(() -> {
+                for (int k = 0; !done.get(); k = (k + 1) % 1024) {
+                    fresh.resolve(caseVariant(name, k));
+                }
+            });
+            reader.start();
+            Thread.yield();
+            int id = fresh.register("Zeta Rovers");
+            done.set(true);
+            reader.join();
+
+            for (int k = 0; k < 1024; k++) {
+                assertEquals(id, fresh.resolve(caseVariant(name, k)));
+            }
+        }
+    }
+
+    private static String caseVariant(String s, int bits) {
+        char[] chars = s.toCharArray();
+        for (int i = 0, bit = 0; i < chars.length; i++) {
+            if (Character.isLetter(chars[i]) && (bits >> bit++ & 1) == 1) {
+                chars[i] = Character.toUpperCase(chars[i]);
+            }
+        }
+        return new String(chars);
+    }
+}